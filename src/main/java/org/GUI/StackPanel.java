@@ -4,19 +4,21 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.io.Serializable;
-import java.util.Stack;
+import java.util.Arrays;
+
+import org.datastructure.IntStack;
 
 /**
  * 栈操作面板
  * 修改说明：增加了批量入栈功能
  */
 public class StackPanel extends JPanel {
-    private Stack<Integer> stack;
+    private IntStack stack;
     private JTextField valueField;
     private JTextArea logArea;
 
     public StackPanel() {
-        stack = new Stack<>();
+        stack = new IntStack();
         initializePanel();
     }
 
@@ -30,16 +32,22 @@ public class StackPanel extends JPanel {
     }
 
     public StackState getCurrentState() {
-        return new StackState(stack);
+        java.util.List<Integer> elements = new java.util.ArrayList<>(stack.size());
+        for (int value : stack.toArray()) {
+            elements.add(value);
+        }
+        return new StackState(elements);
     }
 
     public void restoreFromState(StackState state) {
         if (state == null) return;
 
         stack.clear();
-        for (Integer value : state.stackElements) {
-            stack.push(value);
+        int[] values = new int[state.stackElements.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = state.stackElements.get(i);
         }
+        stack.pushAll(values);
         repaint();
         log("从保存状态恢复栈，元素数: " + stack.size());
     }
@@ -92,6 +100,7 @@ public class StackPanel extends JPanel {
         }
 
         String[] parts = input.split("[,，]");
+        int[] values = new int[parts.length];
         int successCount = 0;
 
         for (String part : parts) {
@@ -99,13 +108,13 @@ public class StackPanel extends JPanel {
                 String valStr = part.trim();
                 if (valStr.isEmpty()) continue;
 
-                int value = Integer.parseInt(valStr);
-                stack.push(value);
-                successCount++;
+                int v = Integer.parseInt(valStr); // 先解析，失败时不占用数组位置
+                values[successCount++] = v;
             } catch (NumberFormatException ex) {
                 log("警告: '" + part + "' 不是有效的整数，已跳过");
             }
         }
+        stack.pushAll(Arrays.copyOf(values, successCount));
 
         valueField.setText("");
         repaint();
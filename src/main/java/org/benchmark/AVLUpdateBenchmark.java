@@ -0,0 +1,159 @@
+package org.benchmark;
+
+import org.datastructure.AVLTreeDS;
+
+import java.util.Random;
+
+/**
+ * AVL 更新基准：非递归 AVLTreeDS 与原递归实现对比
+ * 递归版本每次更新都会一路回溯到根并重写高度；非递归版本在高度不变处停止重算高度和旋转，
+ * 但之后仍要沿路给祖先的子树大小、键和加上增量直到根，写入的节点数同样是 O(log n)，
+ * 省下的只是读取孩子重算的开销。两者每次更新写入节点的次数并列输出
+ * 运行：java org.benchmark.AVLUpdateBenchmark [键数]
+ */
+public class AVLUpdateBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0].replace("_", "")) : 1_000_000;
+        int[] keys = new int[n];
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        for (int round = 0; round < 3; round++) {
+            RecursiveAVL baseline = new RecursiveAVL();
+            long t0 = System.nanoTime();
+            for (int k : keys) baseline.insert(k);
+            long t1 = System.nanoTime();
+            for (int k : keys) baseline.delete(k);
+            long t2 = System.nanoTime();
+
+            AVLTreeDS tree = new AVLTreeDS();
+            long t3 = System.nanoTime();
+            for (int k : keys) tree.insert(k);
+            long t4 = System.nanoTime();
+            for (int k : keys) tree.delete(k);
+            long t5 = System.nanoTime();
+
+            System.out.printf("第 %d 轮 n=%,d%n", round + 1, n);
+            System.out.printf("  递归版  插入 %.1f ns/op  删除 %.1f ns/op  高度写入 %.2f 次/op%n",
+                    (t1 - t0) / (double) n, (t2 - t1) / (double) n, baseline.heightWrites / (2.0 * n));
+            System.out.printf("  非递归  插入 %.1f ns/op  删除 %.1f ns/op  高度写入 %.2f 次/op  聚合写入 %.2f 次/op%n",
+                    (t4 - t3) / (double) n, (t5 - t4) / (double) n,
+                    tree.heightWrites() / (2.0 * n), tree.aggregateWrites() / (2.0 * n));
+        }
+    }
+
+    /** 原递归实现（仅作为基准对照） */
+    static class RecursiveAVL {
+        static class Node {
+            int value;
+            int height = 1;
+            Node left;
+            Node right;
+
+            Node(int value) {
+                this.value = value;
+            }
+        }
+
+        Node root;
+        long heightWrites;
+
+        void insert(int value) {
+            root = insert(root, value);
+        }
+
+        void delete(int value) {
+            root = delete(root, value);
+        }
+
+        private Node insert(Node node, int value) {
+            if (node == null) return new Node(value);
+            if (value < node.value) {
+                node.left = insert(node.left, value);
+            } else if (value > node.value) {
+                node.right = insert(node.right, value);
+            } else {
+                return node;
+            }
+            updateHeight(node);
+            int balance = balance(node);
+            if (balance > 1 && value < node.left.value) return rightRotate(node);
+            if (balance < -1 && value > node.right.value) return leftRotate(node);
+            if (balance > 1 && value > node.left.value) {
+                node.left = leftRotate(node.left);
+                return rightRotate(node);
+            }
+            if (balance < -1 && value < node.right.value) {
+                node.right = rightRotate(node.right);
+                return leftRotate(node);
+            }
+            return node;
+        }
+
+        private Node delete(Node node, int value) {
+            if (node == null) return null;
+            if (value < node.value) {
+                node.left = delete(node.left, value);
+            } else if (value > node.value) {
+                node.right = delete(node.right, value);
+            } else {
+                if (node.left == null || node.right == null) {
+                    node = (node.left != null) ? node.left : node.right;
+                } else {
+                    Node temp = node.right;
+                    while (temp.left != null) temp = temp.left;
+                    node.value = temp.value;
+                    node.right = delete(node.right, temp.value);
+                }
+            }
+            if (node == null) return null;
+            updateHeight(node);
+            int balance = balance(node);
+            if (balance > 1 && balance(node.left) >= 0) return rightRotate(node);
+            if (balance > 1 && balance(node.left) < 0) {
+                node.left = leftRotate(node.left);
+                return rightRotate(node);
+            }
+            if (balance < -1 && balance(node.right) <= 0) return leftRotate(node);
+            if (balance < -1 && balance(node.right) > 0) {
+                node.right = rightRotate(node.right);
+                return leftRotate(node);
+            }
+            return node;
+        }
+
+        private int height(Node node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private int balance(Node node) {
+            return node == null ? 0 : height(node.left) - height(node.right);
+        }
+
+        private void updateHeight(Node node) {
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            heightWrites++;
+        }
+
+        private Node rightRotate(Node y) {
+            Node x = y.left;
+            y.left = x.right;
+            x.right = y;
+            updateHeight(y);
+            updateHeight(x);
+            return x;
+        }
+
+        private Node leftRotate(Node x) {
+            Node y = x.right;
+            x.right = y.left;
+            y.left = x;
+            updateHeight(x);
+            updateHeight(y);
+            return y;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.benchmark;
+
+import org.datastructure.AVLTreeDS;
+import org.datastructure.BPlusTreeDS;
+
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * B+ 树与 AVL 树对比：随机插入、随机查找（一半命中）、全区间扫描
+ * 运行：java -Xmx8g org.benchmark.BPlusTreeBenchmark [规模...]
+ * 默认规模 1M、10M；100M 需要约 12GB 堆（主要是 AVL 节点）
+ */
+public class BPlusTreeBenchmark {
+    private static final int LOOKUPS = 2_000_000;
+    private static final int[] FANOUTS = {16, 64, 256};
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0
+                ? new int[]{1_000_000, 10_000_000}
+                : SearchBenchmark.parseSizes(args);
+
+        for (int n : sizes) {
+            Random random = new Random(42);
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt() & ~1; // 树中只有偶数
+            }
+            int[] lookups = new int[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                int k = keys[random.nextInt(n)];
+                lookups[i] = random.nextBoolean() ? k : k | 1;
+            }
+
+            System.out.printf("n=%,d  （插入 ns/次，查找 ns/次，扫描 ns/键）%n", n);
+            {
+                AVLTreeDS avl = new AVLTreeDS();
+                long t0 = System.nanoTime();
+                for (int k : keys) avl.insert(k);
+                long insert = System.nanoTime() - t0;
+                print("AVL", insert, n, lookups, avl::search, avl.size(), action -> avl.forEachInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, action));
+            }
+            for (int fanout : FANOUTS) {
+                BPlusTreeDS tree = new BPlusTreeDS(fanout);
+                long t0 = System.nanoTime();
+                for (int k : keys) tree.insert(k);
+                long insert = System.nanoTime() - t0;
+                print("B+ 树 fanout=" + fanout + " 高度=" + tree.height(), insert, n, lookups, tree::search, tree.size(),
+                        action -> tree.forEachInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, action));
+            }
+        }
+    }
+
+    interface Lookup {
+        boolean search(int key);
+    }
+
+    interface Scan {
+        void run(IntConsumer action);
+    }
+
+    private static void print(String name, long insertNanos, int n, int[] lookups, Lookup lookup, int size, Scan scan) {
+        // 查找与扫描各预热一轮后取第二轮
+        double search = 0;
+        double perKey = 0;
+        for (int round = 0; round < 2; round++) {
+            long hits = 0;
+            long t0 = System.nanoTime();
+            for (int q : lookups) {
+                if (lookup.search(q)) hits++;
+            }
+            long t1 = System.nanoTime();
+            long[] sum = new long[1];
+            scan.run(k -> sum[0] += k);
+            long t2 = System.nanoTime();
+            if (hits + sum[0] == 42) System.out.println();
+            search = (t1 - t0) / (double) lookups.length;
+            perKey = (t2 - t1) / (double) size;
+        }
+        System.out.printf("  %-24s 插入 %7.1f  查找 %7.1f  扫描 %5.2f%n",
+                name, insertNanos / (double) n, search, perKey);
+    }
+}
@@ -0,0 +1,98 @@
+package org.benchmark;
+
+import org.datastructure.AVLTreeDS;
+import org.datastructure.DataStructure;
+import org.datastructure.RedBlackTreeDS;
+import org.datastructure.WAVLTreeDS;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 平衡树对比：AVL、红黑树、WAVL 在插入为主、删除为主、混合三种负载下的
+ * 每次操作旋转次数、最终树高与 ns/次
+ * 运行：java org.benchmark.BalancedTreeBenchmark [操作数]
+ */
+public class BalancedTreeBenchmark {
+
+    /** 被测的一种树：构造方法、旋转计数、树高 */
+    private static final class Subject {
+        final String name;
+        final Supplier<DataStructure> factory;
+        final ToLongFunction<DataStructure> rotations;
+        final ToIntFunction<DataStructure> height;
+
+        Subject(String name, Supplier<DataStructure> factory,
+                ToLongFunction<DataStructure> rotations, ToIntFunction<DataStructure> height) {
+            this.name = name;
+            this.factory = factory;
+            this.rotations = rotations;
+            this.height = height;
+        }
+    }
+
+    private static final Subject[] SUBJECTS = {
+            new Subject("AVL", AVLTreeDS::new,
+                    t -> ((AVLTreeDS) t).rotations(), t -> ((AVLTreeDS) t).height()),
+            new Subject("红黑树", RedBlackTreeDS::new,
+                    t -> ((RedBlackTreeDS) t).rotations(), t -> ((RedBlackTreeDS) t).height()),
+            new Subject("WAVL", WAVLTreeDS::new,
+                    t -> ((WAVLTreeDS) t).rotations(), t -> ((WAVLTreeDS) t).height()),
+    };
+
+    public static void main(String[] args) {
+        int ops = args.length > 0 ? Integer.parseInt(args[0].replace("_", "")) : 2_000_000;
+
+        // 插入为主：空树开始，90% 插入
+        run("插入为主", 0, 90, ops);
+        // 删除为主：预先装入 ops 个键，90% 删除
+        run("删除为主", ops, 10, ops);
+        // 混合：预先装入 ops/2 个键，插入删除各半
+        run("混合", ops / 2, 50, ops);
+    }
+
+    /**
+     * @param prefill       预先插入的键数（不计时）
+     * @param insertPercent 计时阶段中插入所占百分比，其余为删除
+     */
+    private static void run(String workload, int prefill, int insertPercent, int ops) {
+        System.out.printf("%s（预装 %,d 个键，%,d 次操作）%n", workload, prefill, ops);
+        // 键空间取操作数的两倍，删除大约一半能命中
+        int range = Math.max(2, 2 * Math.max(prefill, ops));
+        for (int round = 0; round < 2; round++) {
+            for (Subject subject : SUBJECTS) {
+                Random random = new Random(42);
+                DataStructure tree = subject.factory.get();
+                for (int i = 0; i < prefill; i++) {
+                    tree.insert(random.nextInt(range));
+                }
+                int[] keys = new int[ops];
+                boolean[] inserts = new boolean[ops];
+                for (int i = 0; i < ops; i++) {
+                    keys[i] = random.nextInt(range);
+                    inserts[i] = random.nextInt(100) < insertPercent;
+                }
+
+                long rotationsBefore = subject.rotations.applyAsLong(tree);
+                long start = System.nanoTime();
+                for (int i = 0; i < ops; i++) {
+                    if (inserts[i]) {
+                        tree.insert(keys[i]);
+                    } else {
+                        tree.delete(keys[i]);
+                    }
+                }
+                long elapsed = System.nanoTime() - start;
+                long rotations = subject.rotations.applyAsLong(tree) - rotationsBefore;
+
+                // 第一轮只用于预热
+                if (round == 1) {
+                    System.out.printf("  %-6s %7.1f ns/次  旋转 %.3f 次/操作  树高 %d%n", subject.name,
+                            elapsed / (double) ops, rotations / (double) ops, subject.height.applyAsInt(tree));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.benchmark;
+
+import org.datastructure.ConcurrentStackDS;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 并发栈吞吐量基准：线程数从 1 增加到 N，每个线程交替 push/pop
+ * 运行：java org.benchmark.ConcurrentStackBenchmark [最大线程数] [每轮毫秒数]
+ */
+public class ConcurrentStackBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        long millis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+
+        System.out.printf("%-8s %-18s %-18s%n", "线程数", "Treiber(Mops/s)", "消除回退(Mops/s)");
+        for (int threads = 1; threads <= maxThreads; threads = nextThreadCount(threads, maxThreads)) {
+            double plain = run(new ConcurrentStackDS(false), threads, millis);
+            double elim = run(new ConcurrentStackDS(true), threads, millis);
+            System.out.printf("%-8d %-18.2f %-18.2f%n", threads, plain, elim);
+        }
+    }
+
+    private static int nextThreadCount(int threads, int maxThreads) {
+        if (threads == maxThreads) return maxThreads + 1;
+        return Math.min(threads * 2, maxThreads);
+    }
+
+    /** 返回每秒百万次操作数 */
+    private static double run(ConcurrentStackDS stack, int threads, long millis) throws InterruptedException {
+        // 预先放入一些元素，避免 pop 频繁遇到空栈
+        for (int i = 0; i < 1024; i++) {
+            stack.push(i);
+        }
+        LongAdder ops = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        long[] deadline = new long[1];
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long local = 0;
+                while (System.nanoTime() < deadline[0]) {
+                    for (int i = 0; i < 256; i++) {
+                        stack.push(i);
+                        stack.pop();
+                    }
+                    local += 512;
+                }
+                ops.add(local);
+            });
+            workers[t].start();
+        }
+
+        long begin = System.nanoTime();
+        deadline[0] = begin + millis * 1_000_000L;
+        start.countDown();
+        for (Thread w : workers) {
+            w.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return ops.sum() / (elapsed / 1e9) / 1e6;
+    }
+}
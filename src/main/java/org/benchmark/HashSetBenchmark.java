@@ -0,0 +1,99 @@
+package org.benchmark;
+
+import org.datastructure.AVLTreeDS;
+import org.datastructure.ArrayListDS;
+import org.datastructure.BPlusTreeDS;
+import org.datastructure.DataStructure;
+import org.datastructure.IntHashSetDS;
+import org.datastructure.LinkedListDS;
+import org.datastructure.RedBlackTreeDS;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 成员查询基准：IntHashSetDS 与已有结构对比插入、查找（一半命中）的 ns/次，
+ * 并统计单次插入的最坏延迟，观察渐进扩容是否避免了整表停顿（最坏延迟也包含 GC 停顿与新表清零）
+ * 线性结构的查找为 O(n)，只在较小规模下参与
+ * 运行：java org.benchmark.HashSetBenchmark [规模...]
+ */
+public class HashSetBenchmark {
+    private static final int LOOKUPS = 1_000_000;
+    private static final int LINEAR_LIMIT = 10_000; // 超过该规模跳过线性结构
+
+    private static final class Subject {
+        final String name;
+        final Supplier<DataStructure> factory;
+        final boolean linear;
+
+        Subject(String name, Supplier<DataStructure> factory, boolean linear) {
+            this.name = name;
+            this.factory = factory;
+            this.linear = linear;
+        }
+    }
+
+    private static final Subject[] SUBJECTS = {
+            new Subject("IntHashSet", IntHashSetDS::new, false),
+            new Subject("AVL", AVLTreeDS::new, false),
+            new Subject("红黑树", RedBlackTreeDS::new, false),
+            new Subject("B+ 树", BPlusTreeDS::new, false),
+            new Subject("顺序表", ArrayListDS::new, true),
+            new Subject("链表", LinkedListDS::new, true),
+    };
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0
+                ? new int[]{1_000, 100_000, 4_000_000}
+                : SearchBenchmark.parseSizes(args);
+
+        for (int n : sizes) {
+            Random random = new Random(42);
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt() & ~1; // 只插入偶数
+            }
+            int[] lookups = new int[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                int k = keys[random.nextInt(n)];
+                lookups[i] = random.nextBoolean() ? k : k | 1;
+            }
+
+            System.out.printf("n=%,d%n", n);
+            for (Subject subject : SUBJECTS) {
+                if (subject.linear && n > LINEAR_LIMIT) continue;
+                // 线性结构的查找次数按规模缩减
+                int queries = subject.linear ? Math.min(LOOKUPS, 50_000_000 / n) : LOOKUPS;
+                double insert = 0;
+                double search = 0;
+                long worst = 0;
+                for (int round = 0; round < 2; round++) {
+                    DataStructure ds = subject.factory.get();
+                    long t0 = System.nanoTime();
+                    for (int k : keys) ds.insert(k);
+                    long t1 = System.nanoTime();
+                    long hits = 0;
+                    for (int i = 0; i < queries; i++) {
+                        if (ds.search(lookups[i])) hits++;
+                    }
+                    long t2 = System.nanoTime();
+                    if (hits == 42) System.out.println();
+                    insert = (t1 - t0) / (double) n;
+                    search = (t2 - t1) / (double) queries;
+
+                    // 单独一轮逐次计时，统计最坏插入延迟
+                    if (round == 1) {
+                        ds = subject.factory.get();
+                        for (int k : keys) {
+                            long s = System.nanoTime();
+                            ds.insert(k);
+                            worst = Math.max(worst, System.nanoTime() - s);
+                        }
+                    }
+                }
+                System.out.printf("  %-10s 插入 %8.1f ns/次  查找 %10.1f ns/次  最坏插入 %8.1f us%n",
+                        subject.name, insert, search, worst / 1e3);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.benchmark;
+
+import org.datastructure.ArrayListDS;
+import org.datastructure.SearchEngine;
+
+import java.util.Random;
+
+/**
+ * 线性查找基准：比较 SIMD 与标量实现
+ * 运行：java --add-modules jdk.incubator.vector -Xmx2g org.benchmark.SearchBenchmark [规模...]
+ * 默认规模 1K、1M、100M：100M 时原始 int[] 与顺序表同时在堆上，各约 400MB，
+ * 共需约 800MB 以上堆，-Xmx1g 实测会 OutOfMemoryError，因此用 -Xmx2g
+ */
+public class SearchBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0
+                ? new int[]{1_000, 1_000_000, 100_000_000}
+                : parseSizes(args);
+
+        System.out.println("向量模块可用: " + SearchEngine.isVectorAvailable()
+                + "，通道数: " + SearchEngine.vectorLanes());
+
+        for (int n : sizes) {
+            ArrayListDS list = new ArrayListDS(n);
+            Random random = new Random(42);
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(Integer.MAX_VALUE);
+            }
+            list.addAll(values);
+
+            // 查找不存在的值，保证每次都扫描全表
+            int rounds = Math.max(5, 200_000_000 / n);
+            double scalar = measure(list, SearchEngine.Mode.SCALAR, rounds);
+            String line = String.format("n=%,d  标量: %.3f us/次", n, scalar);
+            if (SearchEngine.isVectorAvailable()) {
+                double vector = measure(list, SearchEngine.Mode.VECTOR, rounds);
+                line += String.format("  SIMD: %.3f us/次  加速比: %.2fx", vector, scalar / vector);
+            }
+            System.out.println(line);
+        }
+    }
+
+    private static double measure(ArrayListDS list, SearchEngine.Mode mode, int rounds) {
+        SearchEngine.setMode(mode);
+        boolean sink = false;
+        // 预热，让 JIT 完成编译
+        for (int i = 0; i < rounds; i++) {
+            sink ^= list.search(-1 - i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            sink ^= list.search(-1 - i);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink) System.out.println();
+        return elapsed / 1e3 / rounds;
+    }
+
+    static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i].replace("_", ""));
+        }
+        return sizes;
+    }
+}
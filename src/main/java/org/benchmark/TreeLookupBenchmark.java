@@ -0,0 +1,135 @@
+package org.benchmark;
+
+import org.datastructure.AVLTreeDS;
+import org.datastructure.BSTreeDS;
+import org.datastructure.FrozenTreeDS;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * 树查找基准：逐个 search 与交错批量查找、有序批量查找、冻结快照对比（百万次查找/秒）
+ * 查询一半命中一半不命中；树规模超过缓存后交错查找的收益才明显
+ * 运行：java -Xmx4g org.benchmark.TreeLookupBenchmark [规模...]
+ * 默认规模 1K、1M、10M
+ */
+public class TreeLookupBenchmark {
+    private static final int QUERIES = 1 << 20;
+    private static final int BATCH = 4096; // 每次批量调用的查询数
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0
+                ? new int[]{1_000, 1_000_000, 10_000_000}
+                : SearchBenchmark.parseSizes(args);
+
+        for (int n : sizes) {
+            Random random = new Random(42);
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt() & ~1; // 树中只有偶数
+            }
+            int[] queries = new int[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                int k = keys[random.nextInt(n)];
+                queries[i] = random.nextBoolean() ? k : k | 1;
+            }
+
+            // 随机顺序插入，节点在堆上的分布与树的形状无关
+            BSTreeDS bst = new BSTreeDS();
+            AVLTreeDS avl = new AVLTreeDS();
+            for (int k : keys) {
+                bst.insert(k);
+                avl.insert(k);
+            }
+
+            System.out.printf("n=%,d%n", n);
+            report("BST", bst::search, bst::searchInterleaved, bst::searchSorted, queries);
+            report("AVL", avl::search, avl::searchInterleaved, avl::searchSorted, queries);
+
+            FrozenTreeDS frozen = avl.freeze();
+            int[][] batches = split(queries);
+            System.out.printf("  冻结  逐个: %.1f  批量: %.1f  (M 次/秒)%n",
+                    measure(() -> {
+                        long hits = 0;
+                        for (int q : queries) {
+                            if (frozen.search(q)) hits++;
+                        }
+                        return hits;
+                    }),
+                    measure(() -> {
+                        long hits = 0;
+                        for (int[] batch : batches) hits += frozen.searchAll(batch).cardinality();
+                        return hits;
+                    }));
+        }
+    }
+
+    interface Single {
+        boolean search(int key);
+    }
+
+    interface Interleaved {
+        BitSet search(int[] keys, int width);
+    }
+
+    interface Sorted {
+        BitSet search(int[] keys);
+    }
+
+    private static void report(String name, Single single, Interleaved interleaved, Sorted sorted, int[] queries) {
+        int[][] batches = split(queries);
+        int[][] sortedBatches = new int[batches.length][];
+        for (int b = 0; b < batches.length; b++) {
+            sortedBatches[b] = batches[b].clone();
+            Arrays.sort(sortedBatches[b]);
+        }
+
+        StringBuilder line = new StringBuilder("  " + name);
+        line.append(String.format("  逐个: %.1f", measure(() -> {
+            long hits = 0;
+            for (int q : queries) {
+                if (single.search(q)) hits++;
+            }
+            return hits;
+        })));
+        for (int width : new int[]{8, 16}) {
+            line.append(String.format("  交错x%d: %.1f", width, measure(() -> {
+                long hits = 0;
+                for (int[] batch : batches) hits += interleaved.search(batch, width).cardinality();
+                return hits;
+            })));
+        }
+        line.append(String.format("  有序批量: %.1f", measure(() -> {
+            long hits = 0;
+            for (int[] batch : sortedBatches) hits += sorted.search(batch).cardinality();
+            return hits;
+        })));
+        System.out.println(line.append("  (M 次/秒)"));
+    }
+
+    private static int[][] split(int[] queries) {
+        int[][] batches = new int[queries.length / BATCH][];
+        for (int b = 0; b < batches.length; b++) {
+            batches[b] = Arrays.copyOfRange(queries, b * BATCH, (b + 1) * BATCH);
+        }
+        return batches;
+    }
+
+    interface Run {
+        long run();
+    }
+
+    /** 预热后取三轮中最快的一轮，返回百万次查找/秒 */
+    private static double measure(Run run) {
+        long sink = run.run();
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            sink += run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (sink == 42) System.out.println();
+        return QUERIES / (best / 1e3);
+    }
+}
@@ -0,0 +1,106 @@
+package org.benchmark;
+
+import org.datastructure.AVLTreeDS;
+import org.datastructure.DataStructure;
+import org.datastructure.SplayTreeDS;
+import org.datastructure.TreapDS;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * 偏斜访问基准：查找键服从 Zipf 分布（第 k 热的键被访问的概率正比于 1/k^s）
+ * 比较 AVL、伸展树、随机树堆、按频率树堆的平均查找深度与吞吐量
+ * 热度排名与键值无关（随机打乱），避免热点恰好集中在某一段键区间
+ * 运行：java org.benchmark.ZipfBenchmark [键数] [查找次数]
+ */
+public class ZipfBenchmark {
+    private static final double[] EXPONENTS = {0.8, 1.0, 1.2};
+
+    /** 被测的一种树：构造方法与不修改树的查找深度 */
+    private static final class Subject {
+        final String name;
+        final Supplier<DataStructure> factory;
+        final ToIntBiFunction<DataStructure, Integer> depth;
+
+        Subject(String name, Supplier<DataStructure> factory, ToIntBiFunction<DataStructure, Integer> depth) {
+            this.name = name;
+            this.factory = factory;
+            this.depth = depth;
+        }
+    }
+
+    private static final Subject[] SUBJECTS = {
+            new Subject("AVL", AVLTreeDS::new, (t, k) -> ((AVLTreeDS) t).searchDepth(k)),
+            new Subject("伸展树", SplayTreeDS::new, (t, k) -> ((SplayTreeDS) t).searchDepth(k)),
+            new Subject("树堆(随机)", TreapDS::new, (t, k) -> ((TreapDS) t).searchDepth(k)),
+            new Subject("树堆(频率)", () -> new TreapDS(true), (t, k) -> ((TreapDS) t).searchDepth(k)),
+    };
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0].replace("_", "")) : 1_000_000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1].replace("_", "")) : 5_000_000;
+
+        Random random = new Random(42);
+        int[] keys = random.ints(n).distinct().toArray();
+        n = keys.length;
+        // keys[rank] 为第 rank 热的键；插入顺序另行打乱
+        int[] insertOrder = keys.clone();
+        shuffle(insertOrder, random);
+
+        for (double s : EXPONENTS) {
+            int[] queries = zipfQueries(keys, s, lookups, random);
+            System.out.printf("Zipf s=%.1f  n=%,d  查找 %,d 次%n", s, n, lookups);
+            for (Subject subject : SUBJECTS) {
+                DataStructure tree = subject.factory.get();
+                for (int k : insertOrder) tree.insert(k);
+
+                // 第一遍：按查找顺序统计访问深度（自适应的树在这一遍中完成调整）
+                long totalDepth = 0;
+                for (int q : queries) {
+                    totalDepth += subject.depth.applyAsInt(tree, q);
+                    tree.search(q);
+                }
+                // 第二遍：计时
+                long hits = 0;
+                long start = System.nanoTime();
+                for (int q : queries) {
+                    if (tree.search(q)) hits++;
+                }
+                long elapsed = System.nanoTime() - start;
+                if (hits != lookups) throw new IllegalStateException("查找结果错误");
+
+                System.out.printf("  %-8s 平均深度 %6.2f  吞吐量 %6.2f M 次/秒%n", subject.name,
+                        totalDepth / (double) lookups, lookups / (elapsed / 1e3));
+            }
+        }
+    }
+
+    /** 按 Zipf 分布抽样：累积分布表上二分查找排名 */
+    private static int[] zipfQueries(int[] keys, double s, int count, Random random) {
+        double[] cdf = new double[keys.length];
+        double total = 0;
+        for (int k = 0; k < keys.length; k++) {
+            total += 1 / Math.pow(k + 1, s);
+            cdf[k] = total;
+        }
+        int[] queries = new int[count];
+        for (int i = 0; i < count; i++) {
+            int pos = Arrays.binarySearch(cdf, random.nextDouble() * total);
+            int rank = pos >= 0 ? pos : Math.min(-pos - 1, keys.length - 1);
+            queries[i] = keys[rank];
+        }
+        return queries;
+    }
+
+    private static void shuffle(int[] a, Random random) {
+        for (int i = a.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+}
@@ -1,23 +1,53 @@
 package org.datastructure;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
- * AVL平衡二叉树实现
+ * AVL平衡二叉树实现（非递归）
+ * 节点带父指针，插入/删除后沿父指针向上回溯，
+ * 一旦某棵子树高度不再变化就停止旋转，之后只需沿路给祖先的子树大小、键和加上增量
+ * （每次更新仍要写到根，共 O(log n) 个节点）
+ * 节点记录子树大小，支持 O(log n) 的排名、选择与区间计数
+ * 节点还记录子树的键和，支持 O(log n) 的区间求和
+ * 并集、交集、差集基于 join/split 实现，大规模子问题在 fork-join 池上并行
  */
 public class AVLTreeDS implements DataStructure {
 
     static class AVLNode {
         int value;
         int height;
+        int size;   // 以该节点为根的子树节点数
+        long sum;   // 子树键和
         AVLNode left;
         AVLNode right;
+        AVLNode parent;
 
-        AVLNode(int value) {
+        AVLNode(int value, AVLNode parent) {
             this.value = value;
             this.height = 1;
+            this.size = 1;
+            this.sum = value;
+            this.parent = parent;
         }
     }
 
+    private static final int PARALLEL_THRESHOLD = 1 << 14; // 子问题规模超过该值时并行执行
+
     private AVLNode root;
+    private final LongAdder rotations = new LongAdder(); // 累计旋转次数，并行集合运算的各任务也会累加
+    private long heightWrites;    // insert/delete 回溯中重算高度的次数
+    private long aggregateWrites; // 回溯停止后只更新聚合信息的次数
 
     public AVLTreeDS() {
         root = null;
@@ -25,153 +55,211 @@ public class AVLTreeDS implements DataStructure {
 
     @Override
     public void insert(int value) {
-        root = insert(root, value);
+        if (root == null) {
+            root = new AVLNode(value, null);
+            return;
+        }
+
+        AVLNode parent = root;
+        while (true) {
+            if (value < parent.value) {
+                if (parent.left == null) {
+                    parent.left = new AVLNode(value, parent);
+                    break;
+                }
+                parent = parent.left;
+            } else if (value > parent.value) {
+                if (parent.right == null) {
+                    parent.right = new AVLNode(value, parent);
+                    break;
+                }
+                parent = parent.right;
+            } else {
+                return; // 不允许重复值
+            }
+        }
+
+        retrace(parent, 1, value, null, 0);
     }
 
     @Override
     public void delete(int value) {
-        root = delete(root, value);
+        AVLNode node = findNode(value);
+        if (node == null) return;
+
+        AVLNode swapped = null;
+        if (node.left != null && node.right != null) {
+            // 两个子节点：用后继的值替换，转化为删除后继节点
+            AVLNode successor = minValueNode(node.right);
+            swapped = node;
+            node.value = successor.value;
+            node = successor;
+        }
+
+        // 此时 node 至多有一个子节点
+        AVLNode child = (node.left != null) ? node.left : node.right;
+        AVLNode parent = node.parent;
+        if (child != null) {
+            child.parent = parent;
+        }
+        replaceChild(parent, node, child);
+
+        // 后继所在路径上的子树少了 node.value；从 swapped 起整体少的是被删除的 value
+        retrace(parent, -1, -node.value, swapped, (long) node.value - value);
     }
 
     @Override
     public boolean search(int value) {
-        return search(root, value);
+        return findNode(value) != null;
     }
 
-    private AVLNode insert(AVLNode node, int value) {
-        if (node == null) return new AVLNode(value);
-
-        if (value < node.value) {
-            node.left = insert(node.left, value);
-        } else if (value > node.value) {
-            node.right = insert(node.right, value);
-        } else {
-            return node; // 不允许重复值
-        }
-
-        // 更新高度
-        node.height = 1 + Math.max(height(node.left), height(node.right));
-
-        // 获取平衡因子
-        int balance = getBalance(node);
-
-        // 左左情况
-        if (balance > 1 && value < node.left.value) {
-            return rightRotate(node);
-        }
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeSpliterator.inOrder(root, size(), ACCESS,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
 
-        // 右右情况
-        if (balance < -1 && value > node.right.value) {
-            return leftRotate(node);
-        }
+    /** 供 TreeSpliterator 使用；子树大小精确，拆分后仍为 SIZED */
+    private static final TreeSpliterator.Access<AVLNode> ACCESS =
+            TreeSpliterator.Access.of(n -> n.left, n -> n.right, n -> n.value, n -> n.size);
 
-        // 左右情况
-        if (balance > 1 && value > node.left.value) {
-            node.left = leftRotate(node.left);
-            return rightRotate(node);
+    private AVLNode findNode(int value) {
+        AVLNode current = root;
+        while (current != null) {
+            if (value == current.value) return current;
+            current = value < current.value ? current.left : current.right;
         }
-
-        // 右左情况
-        if (balance < -1 && value < node.right.value) {
-            node.right = rightRotate(node.right);
-            return leftRotate(node);
-        }
-
-        return node;
+        return null;
     }
 
-    private AVLNode delete(AVLNode node, int value) {
-        if (node == null) return null;
-
-        if (value < node.value) {
-            node.left = delete(node.left, value);
-        } else if (value > node.value) {
-            node.right = delete(node.right, value);
-        } else {
-            if (node.left == null || node.right == null) {
-                AVLNode temp = (node.left != null) ? node.left : node.right;
-                if (temp == null) {
-                    temp = node;
-                    node = null;
-                } else {
-                    node = temp;
-                }
-            } else {
-                AVLNode temp = minValueNode(node.right);
-                node.value = temp.value;
-                node.right = delete(node.right, temp.value);
+    /**
+     * 从 node 开始向上回溯：更新高度并在失衡处旋转
+     * 子树高度与修改前相同时，祖先不再需要旋转；再往上的祖先子树大小与键和只差一个固定增量，
+     * 直接加上 sizeDelta/sumDelta，不再读取孩子节点，但仍要一直走到根
+     * swapped 不为 null 时表示该节点的键被改写，经过它之后键和增量再加上 swapAdjust
+     */
+    private void retrace(AVLNode node, int sizeDelta, long sumDelta, AVLNode swapped, long swapAdjust) {
+        while (node != null) {
+            if (node == swapped) sumDelta += swapAdjust;
+            int oldHeight = node.height;
+            AVLNode parent = node.parent;
+            AVLNode subtree = rebalance(node);
+            node = parent;
+            if (subtree.height == oldHeight) {
+                break;
             }
         }
+        for (; node != null; node = node.parent) {
+            if (node == swapped) sumDelta += swapAdjust;
+            node.size += sizeDelta;
+            node.sum += sumDelta;
+            aggregateWrites++;
+        }
+    }
 
-        if (node == null) return null;
-
-        // 更新高度
-        node.height = 1 + Math.max(height(node.left), height(node.right));
-
-        // 获取平衡因子
+    /** 更新高度，必要时旋转并接回父节点，返回该位置上新的子树根 */
+    private AVLNode rebalance(AVLNode node) {
+        update(node);
+        heightWrites++;
         int balance = getBalance(node);
-
-        // 左左情况
-        if (balance > 1 && getBalance(node.left) >= 0) {
-            return rightRotate(node);
+        AVLNode parent = node.parent;
+        AVLNode subtree = node;
+
+        if (balance > 1) {
+            // 左右情况先把左孩子左旋，转化为左左情况
+            if (getBalance(node.left) < 0) {
+                node.left = leftRotate(node.left);
+                heightWrites += 2;
+            }
+            subtree = rightRotate(node);
+            heightWrites += 2;
+        } else if (balance < -1) {
+            // 右左情况先把右孩子右旋，转化为右右情况
+            if (getBalance(node.right) > 0) {
+                node.right = rightRotate(node.right);
+                heightWrites += 2;
+            }
+            subtree = leftRotate(node);
+            heightWrites += 2;
         }
 
-        // 左右情况
-        if (balance > 1 && getBalance(node.left) < 0) {
-            node.left = leftRotate(node.left);
-            return rightRotate(node);
+        if (subtree != node) {
+            replaceChild(parent, node, subtree);
         }
+        return subtree;
+    }
 
-        // 右右情况
-        if (balance < -1 && getBalance(node.right) <= 0) {
-            return leftRotate(node);
-        }
+    private int height(AVLNode node) {
+        return node == null ? 0 : node.height;
+    }
 
-        // 右左情况
-        if (balance < -1 && getBalance(node.right) > 0) {
-            node.right = rightRotate(node.right);
-            return leftRotate(node);
-        }
+    private int size(AVLNode node) {
+        return node == null ? 0 : node.size;
+    }
 
-        return node;
+    private long sum(AVLNode node) {
+        return node == null ? 0 : node.sum;
     }
 
-    private boolean search(AVLNode node, int value) {
-        if (node == null) return false;
-        if (node.value == value) return true;
-        return value < node.value ? search(node.left, value) : search(node.right, value);
+    /** 由左右孩子重新计算高度与聚合信息 */
+    private void update(AVLNode node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        updateAggregates(node);
     }
 
-    private int height(AVLNode node) {
-        return node == null ? 0 : node.height;
+    /** 由左右孩子重新计算子树大小与键和 */
+    private void updateAggregates(AVLNode node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        node.sum = node.value + sum(node.left) + sum(node.right);
     }
 
     private int getBalance(AVLNode node) {
         return node == null ? 0 : height(node.left) - height(node.right);
     }
 
+    /** 把 parent 指向 oldChild 的链接改为 newChild（parent 为 null 时替换根） */
+    private void replaceChild(AVLNode parent, AVLNode oldChild, AVLNode newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    /** 右旋，返回新的子树根；新根继承 y 的父指针，父节点一侧的链接由调用方负责 */
     private AVLNode rightRotate(AVLNode y) {
         AVLNode x = y.left;
         AVLNode T2 = x.right;
 
+        x.parent = y.parent;
         x.right = y;
+        y.parent = x;
         y.left = T2;
+        if (T2 != null) T2.parent = y;
 
-        y.height = Math.max(height(y.left), height(y.right)) + 1;
-        x.height = Math.max(height(x.left), height(x.right)) + 1;
+        update(y);
+        update(x);
+        rotations.increment();
 
         return x;
     }
 
+    /** 左旋，返回新的子树根；新根继承 x 的父指针，父节点一侧的链接由调用方负责 */
     private AVLNode leftRotate(AVLNode x) {
         AVLNode y = x.right;
         AVLNode T2 = y.left;
 
+        y.parent = x.parent;
         y.left = x;
+        x.parent = y;
         x.right = T2;
+        if (T2 != null) T2.parent = x;
 
-        x.height = Math.max(height(x.left), height(x.right)) + 1;
-        y.height = Math.max(height(y.left), height(y.right)) + 1;
+        update(x);
+        update(y);
+        rotations.increment();
 
         return y;
     }
@@ -184,7 +272,597 @@ public class AVLTreeDS implements DataStructure {
         return current;
     }
 
+    private AVLNode maxValueNode(AVLNode node) {
+        AVLNode current = node;
+        while (current.right != null) {
+            current = current.right;
+        }
+        return current;
+    }
+
+    // ================== 顺序统计 ==================
+
+    /** 节点总数，O(1) */
+    public int size() {
+        return size(root);
+    }
+
+    /** 排名：严格小于 value 的键的个数 */
+    public int rank(int value) {
+        return countBelow(value, false);
+    }
+
+    /** 选择：第 k 小的键（k 从 0 开始） */
+    public int select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("下标越界");
+        }
+        AVLNode current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (k < leftSize) {
+                current = current.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current.value;
+            }
+        }
+    }
+
+    /** 闭区间 [lo, hi] 内的键的个数 */
+    public int countRange(int lo, int hi) {
+        if (lo > hi) return 0;
+        return countBelow(hi, true) - countBelow(lo, false);
+    }
+
+    /** 小于（inclusive 为 true 时小于等于）value 的键的个数 */
+    private int countBelow(int value, boolean inclusive) {
+        int count = 0;
+        AVLNode current = root;
+        while (current != null) {
+            if (value < current.value || (!inclusive && value == current.value)) {
+                current = current.left;
+            } else {
+                count += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return count;
+    }
+
+    // ================== 区间聚合 ==================
+
+    /** 闭区间 [lo, hi] 内的键之和 */
+    public long sumRange(int lo, int hi) {
+        if (lo > hi) return 0;
+        return sumBelow(hi, true) - sumBelow(lo, false);
+    }
+
+    /** 闭区间 [lo, hi] 内的最小键，区间为空时抛出异常 */
+    public int minRange(int lo, int hi) {
+        // 最小的 >= lo 的键
+        AVLNode current = root;
+        AVLNode best = null;
+        while (current != null) {
+            if (current.value >= lo) {
+                best = current;
+                if (current.value == lo) break;
+                current = current.left;
+            } else {
+                current = current.right;
+            }
+        }
+        if (best == null || lo > hi || best.value > hi) {
+            throw new NoSuchElementException("区间内没有键");
+        }
+        return best.value;
+    }
+
+    /** 闭区间 [lo, hi] 内的最大键，区间为空时抛出异常 */
+    public int maxRange(int lo, int hi) {
+        // 最大的 <= hi 的键
+        AVLNode current = root;
+        AVLNode best = null;
+        while (current != null) {
+            if (current.value <= hi) {
+                best = current;
+                if (current.value == hi) break;
+                current = current.right;
+            } else {
+                current = current.left;
+            }
+        }
+        if (best == null || lo > hi || best.value < lo) {
+            throw new NoSuchElementException("区间内没有键");
+        }
+        return best.value;
+    }
+
+    /** 全树最小键，O(log n) */
+    public int min() {
+        if (root == null) {
+            throw new NoSuchElementException("树为空");
+        }
+        return minValueNode(root).value;
+    }
+
+    /** 全树最大键，O(log n) */
+    public int max() {
+        if (root == null) {
+            throw new NoSuchElementException("树为空");
+        }
+        return maxValueNode(root).value;
+    }
+
+    /** 小于（inclusive 为 true 时小于等于）value 的键之和 */
+    private long sumBelow(int value, boolean inclusive) {
+        long total = 0;
+        AVLNode current = root;
+        while (current != null) {
+            if (value < current.value || (!inclusive && value == current.value)) {
+                current = current.left;
+            } else {
+                total += sum(current.left) + current.value;
+                current = current.right;
+            }
+        }
+        return total;
+    }
+
+    // ================== 基于 join 的集合运算 ==================
+
+    /**
+     * 拼接：other 的所有键必须大于本树所有键，O(|h1 - h2|)
+     * 拼接后 other 被清空
+     */
+    public void join(AVLTreeDS other) {
+        if (other == this || other.root == null) return;
+        if (root != null && maxValueNode(root).value >= minValueNode(other.root).value) {
+            throw new IllegalArgumentException("other 的键必须全部大于本树的键");
+        }
+        root = detach(join2(root, other.root));
+        other.root = null;
+    }
+
+    /** 拆分：本树保留小于 key 的键，返回包含大于等于 key 的键的新树，O(log n) */
+    public AVLTreeDS split(int key) {
+        SplitResult parts = split(root, key);
+        AVLTreeDS upper = new AVLTreeDS();
+        AVLNode right = parts.right;
+        if (parts.middle != null) {
+            right = join(null, parts.middle, right);
+        }
+        root = detach(parts.left);
+        upper.root = detach(right);
+        return upper;
+    }
+
+    /**
+     * 并集：本树变为两者的并集，other 保持不变
+     * 只拆分本树、只读 other，O(m log(n/m + 1))；另为 other 独有的键各分配一个新节点
+     */
+    public void union(AVLTreeDS other) {
+        if (other == this) return;
+        root = detach(union(root, other.root, false));
+    }
+
+    /** 交集：本树只保留同时出现在 other 中的键，other 只读，O(m log(n/m + 1)) */
+    public void intersection(AVLTreeDS other) {
+        if (other == this) return;
+        root = detach(intersection(root, other.root));
+    }
+
+    /** 差集：从本树删除所有出现在 other 中的键，other 只读，O(m log(n/m + 1)) */
+    public void difference(AVLTreeDS other) {
+        if (other == this) {
+            root = null;
+            return;
+        }
+        root = detach(difference(root, other.root));
+    }
+
+    /** 批量插入：排序去重后 O(m) 建成平衡树，再与本树求并集（新树的节点直接并入） */
+    @Override
+    public void insertAll(int[] values) {
+        int[] sorted = BatchOps.sortedDistinct(values);
+        root = detach(union(root, buildBalanced(sorted, 0, sorted.length - 1), true));
+    }
+
+    /** 批量删除：排序去重后 O(m) 建成平衡树，再从本树求差集 */
+    @Override
+    public void deleteAll(int[] values) {
+        int[] sorted = BatchOps.sortedDistinct(values);
+        root = detach(difference(root, buildBalanced(sorted, 0, sorted.length - 1)));
+    }
+
+    /** 批量查找，策略同 BSTreeDS.searchAll */
+    @Override
+    public BitSet searchAll(int[] values) {
+        if (BatchOps.preferMerge(size(), values.length)) {
+            return BatchOps.mergeSearch(iterator(), values);
+        }
+        if (BatchOps.isAscending(values)) {
+            return searchSorted(values);
+        }
+        return searchInterleaved(values, BatchOps.INTERLEAVE_WIDTH);
+    }
+
+    /** join/split 的中间结果 */
+    private static final class SplitResult {
+        final AVLNode left;
+        final AVLNode middle; // 等于拆分键的节点，不存在时为 null
+        final AVLNode right;
+
+        SplitResult(AVLNode left, AVLNode middle, AVLNode right) {
+            this.left = left;
+            this.middle = middle;
+            this.right = right;
+        }
+    }
+
+    /** 以 k 为根连接 l 和 r（要求两者高度差不超过 1），重算高度与聚合信息 */
+    private AVLNode link(AVLNode l, AVLNode k, AVLNode r) {
+        k.left = l;
+        k.right = r;
+        if (l != null) l.parent = k;
+        if (r != null) r.parent = k;
+        update(k);
+        return k;
+    }
+
+    /** 作为整棵树的根：清除父指针 */
+    private AVLNode detach(AVLNode node) {
+        if (node != null) node.parent = null;
+        return node;
+    }
+
+    /** 连接 l、k、r（l 中键 < k < r 中键），结果仍为 AVL 树 */
+    private AVLNode join(AVLNode l, AVLNode k, AVLNode r) {
+        if (height(l) > height(r) + 1) return joinRight(l, k, r);
+        if (height(r) > height(l) + 1) return joinLeft(l, k, r);
+        return link(l, k, r);
+    }
+
+    /** l 比 r 高：沿 l 的右脊下降到高度相近处接上 r */
+    private AVLNode joinRight(AVLNode l, AVLNode k, AVLNode r) {
+        AVLNode c = l.right;
+        if (height(c) <= height(r) + 1) {
+            AVLNode t = link(c, k, r);
+            if (height(t) <= height(l.left) + 1) {
+                return link(l.left, l, t);
+            }
+            return leftRotate(link(l.left, l, rightRotate(t)));
+        }
+        AVLNode t = joinRight(c, k, r);
+        AVLNode result = link(l.left, l, t);
+        return height(t) <= height(l.left) + 1 ? result : leftRotate(result);
+    }
+
+    /** r 比 l 高：沿 r 的左脊下降到高度相近处接上 l */
+    private AVLNode joinLeft(AVLNode l, AVLNode k, AVLNode r) {
+        AVLNode c = r.left;
+        if (height(c) <= height(l) + 1) {
+            AVLNode t = link(l, k, c);
+            if (height(t) <= height(r.right) + 1) {
+                return link(t, r, r.right);
+            }
+            return rightRotate(link(leftRotate(t), r, r.right));
+        }
+        AVLNode t = joinLeft(l, k, c);
+        AVLNode result = link(t, r, r.right);
+        return height(t) <= height(r.right) + 1 ? result : rightRotate(result);
+    }
+
+    /** 没有中间键的连接：取出 l 的最大节点作为中间键 */
+    private AVLNode join2(AVLNode l, AVLNode r) {
+        if (l == null) return r;
+        if (r == null) return l;
+        SplitResult last = splitLast(l);
+        return join(last.left, last.middle, r);
+    }
+
+    /** 拆出最大节点：left 为剩余部分，middle 为最大节点 */
+    private SplitResult splitLast(AVLNode t) {
+        if (t.right == null) {
+            return new SplitResult(t.left, t, null);
+        }
+        SplitResult rest = splitLast(t.right);
+        return new SplitResult(join(t.left, t, rest.left), rest.middle, null);
+    }
+
+    /** 按 key 拆成小于、等于、大于三部分 */
+    private SplitResult split(AVLNode t, int key) {
+        if (t == null) {
+            return new SplitResult(null, null, null);
+        }
+        if (key == t.value) {
+            return new SplitResult(t.left, t, t.right);
+        }
+        if (key < t.value) {
+            SplitResult parts = split(t.left, key);
+            return new SplitResult(parts.left, parts.middle, join(parts.right, t, t.right));
+        }
+        SplitResult parts = split(t.right, key);
+        return new SplitResult(join(t.left, t, parts.left), parts.middle, parts.right);
+    }
+
+    // 以下三个递归都按 t2 的根拆分 t1：只有 t1 的节点被重新链接，t2 只读
+
+    /** reuse 为 true 时 t2 是可丢弃的临时树，其节点直接并入结果而不复制 */
+    private AVLNode union(AVLNode t1, AVLNode t2, boolean reuse) {
+        if (t2 == null) return t1;
+        if (t1 == null) return reuse ? t2 : copy(t2, null);
+        int work = t1.size + t2.size;
+        SplitResult parts = split(t1, t2.value);
+        AVLNode l2 = t2.left;
+        AVLNode r2 = t2.right;
+        AVLNode[] halves = forkHalves(work,
+                () -> union(parts.left, l2, reuse), () -> union(parts.right, r2, reuse));
+        AVLNode middle = parts.middle != null ? parts.middle : reuse ? t2 : new AVLNode(t2.value, null);
+        return join(halves[0], middle, halves[1]);
+    }
+
+    private AVLNode intersection(AVLNode t1, AVLNode t2) {
+        if (t1 == null || t2 == null) return null;
+        int work = t1.size + t2.size;
+        SplitResult parts = split(t1, t2.value);
+        AVLNode l2 = t2.left;
+        AVLNode r2 = t2.right;
+        AVLNode[] halves = forkHalves(work,
+                () -> intersection(parts.left, l2), () -> intersection(parts.right, r2));
+        return parts.middle != null ? join(halves[0], parts.middle, halves[1]) : join2(halves[0], halves[1]);
+    }
+
+    private AVLNode difference(AVLNode t1, AVLNode t2) {
+        if (t1 == null || t2 == null) return t1;
+        int work = t1.size + t2.size;
+        SplitResult parts = split(t1, t2.value);
+        AVLNode l2 = t2.left;
+        AVLNode r2 = t2.right;
+        AVLNode[] halves = forkHalves(work,
+                () -> difference(parts.left, l2), () -> difference(parts.right, r2));
+        return join2(halves[0], halves[1]);
+    }
+
+    /**
+     * 计算左右两半：规模足够大时左半交给 fork-join 公共池并行执行
+     * 两半操作的节点互不相交，可以安全并行
+     */
+    private AVLNode[] forkHalves(int work, Supplier<AVLNode> left, Supplier<AVLNode> right) {
+        AVLNode[] halves = new AVLNode[2];
+        if (work >= PARALLEL_THRESHOLD) {
+            RecursiveTask<AVLNode> task = new RecursiveTask<>() {
+                @Override
+                protected AVLNode compute() {
+                    return left.get();
+                }
+            };
+            task.fork();
+            halves[1] = right.get();
+            halves[0] = task.join();
+        } else {
+            halves[0] = left.get();
+            halves[1] = right.get();
+        }
+        return halves;
+    }
+
+    /** 由升序数组 [lo, hi] 构建平衡子树 */
+    private AVLNode buildBalanced(int[] sorted, int lo, int hi) {
+        if (lo > hi) return null;
+        int mid = (lo + hi) >>> 1;
+        AVLNode node = new AVLNode(sorted[mid], null);
+        return link(buildBalanced(sorted, lo, mid - 1), node, buildBalanced(sorted, mid + 1, hi));
+    }
+
+    /** 深拷贝子树 */
+    private AVLNode copy(AVLNode node, AVLNode parent) {
+        if (node == null) return null;
+        AVLNode c = new AVLNode(node.value, parent);
+        c.left = copy(node.left, c);
+        c.right = copy(node.right, c);
+        update(c);
+        return c;
+    }
+
+    // ================== 批量查找 ==================
+
+    /** 交错查找，做法同 BSTreeDS.searchInterleaved；第 i 位为 true 表示 keys[i] 存在 */
+    public BitSet searchInterleaved(int[] keys, int width) {
+        BatchOps.checkWidth(width);
+        BitSet found = new BitSet(keys.length);
+        AVLNode[] cursor = new AVLNode[width];
+        for (int base = 0; base < keys.length; base += width) {
+            int lanes = Math.min(width, keys.length - base);
+            for (int i = 0; i < lanes; i++) {
+                cursor[i] = root;
+            }
+            int active = lanes;
+            while (active > 0) {
+                active = 0;
+                for (int i = 0; i < lanes; i++) {
+                    AVLNode node = cursor[i];
+                    if (node == null) continue;
+                    int key = keys[base + i];
+                    if (key == node.value) {
+                        found.set(base + i);
+                        cursor[i] = null;
+                    } else {
+                        node = key < node.value ? node.left : node.right;
+                        cursor[i] = node;
+                        if (node != null) active++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /** 有序批量查找，keys 须为非降序，做法同 BSTreeDS.searchSorted */
+    public BitSet searchSorted(int[] keys) {
+        BitSet found = new BitSet(keys.length);
+        AVLNode[] path = new AVLNode[32];
+        long[] upper = new long[32]; // upper[d]：path[d] 子树中键的上界（不含）
+        int depth = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int key = keys[i];
+            if (i > 0 && key < keys[i - 1]) {
+                throw new IllegalArgumentException("查询键必须为非降序");
+            }
+            while (depth > 0 && upper[depth - 1] <= key) {
+                depth--;
+            }
+            AVLNode node;
+            long bound;
+            if (depth == 0) {
+                node = root;
+                bound = Long.MAX_VALUE;
+            } else {
+                // 从仍包含 key 的最深节点继续
+                depth--;
+                node = path[depth];
+                bound = upper[depth];
+            }
+            while (node != null) {
+                if (depth == path.length) {
+                    path = Arrays.copyOf(path, depth * 2);
+                    upper = Arrays.copyOf(upper, depth * 2);
+                }
+                path[depth] = node;
+                upper[depth++] = bound;
+                if (key == node.value) {
+                    found.set(i);
+                    break;
+                }
+                if (key < node.value) {
+                    bound = node.value;
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+        }
+        return found;
+    }
+
+    // ================== 冻结快照 ==================
+
+    /** 生成当前内容的只读快照（见 FrozenTreeDS），之后对本树的修改不影响快照 */
+    public FrozenTreeDS freeze() {
+        return new FrozenTreeDS(stream().toArray());
+    }
+
+    /** 后台冻结：本线程只复制有序键，见 FrozenTreeDS.buildAsync */
+    public CompletableFuture<FrozenTreeDS> freezeAsync() {
+        return FrozenTreeDS.buildAsync(stream().toArray());
+    }
+
+    // ================== 迭代器与区间扫描 ==================
+
+    /** 中序（升序）原始类型迭代器，借助父指针求后继，不需要栈也不分配对象 */
+    public PrimitiveIterator.OfInt iterator() {
+        return new InOrderIterator(root == null ? null : minValueNode(root));
+    }
+
+    /** 按升序对闭区间 [lo, hi] 内的每个键调用 action，O(log n + k) */
+    public void forEachInRange(int lo, int hi, IntConsumer action) {
+        if (lo > hi) return;
+        for (AVLNode node = ceilingNode(lo); node != null && node.value <= hi; node = successor(node)) {
+            action.accept(node.value);
+        }
+    }
+
+    /** 最小的 >= value 的节点 */
+    private AVLNode ceilingNode(int value) {
+        AVLNode current = root;
+        AVLNode best = null;
+        while (current != null) {
+            if (current.value >= value) {
+                best = current;
+                if (current.value == value) break;
+                current = current.left;
+            } else {
+                current = current.right;
+            }
+        }
+        return best;
+    }
+
+    /** 中序后继：有右子树取其最左节点，否则沿父指针上行直到从左侧上来 */
+    private static AVLNode successor(AVLNode node) {
+        if (node.right != null) {
+            AVLNode current = node.right;
+            while (current.left != null) {
+                current = current.left;
+            }
+            return current;
+        }
+        AVLNode child = node;
+        AVLNode parent = node.parent;
+        while (parent != null && parent.right == child) {
+            child = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    private static final class InOrderIterator implements PrimitiveIterator.OfInt {
+        private AVLNode next;
+
+        InOrderIterator(AVLNode first) {
+            this.next = first;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public int nextInt() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            int value = next.value;
+            next = successor(next);
+            return value;
+        }
+    }
+
+    /** 树高（空树为 0） */
+    public int height() {
+        return height(root);
+    }
+
+    /** 自创建以来的累计旋转次数（含集合运算中的旋转） */
+    public long rotations() {
+        return rotations.sum();
+    }
+
+    /** insert/delete 回溯中重算高度的累计次数（每次旋转计 2 次） */
+    public long heightWrites() {
+        return heightWrites;
+    }
+
+    /** insert/delete 回溯在高度不变处停止后，继续向上只更新聚合信息的累计次数 */
+    public long aggregateWrites() {
+        return aggregateWrites;
+    }
+
+    /** 查找 value 时访问的节点数 */
+    public int searchDepth(int value) {
+        int depth = 0;
+        for (AVLNode current = root; current != null; ) {
+            depth++;
+            if (value == current.value) break;
+            current = value < current.value ? current.left : current.right;
+        }
+        return depth;
+    }
+
     public AVLNode getRoot() {
         return root;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,266 @@
+package org.datastructure;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 数组池单链表：节点存放在两个平行的 int 数组中
+ * value[i] 为节点值，next[i] 为后继节点下标（NIL 表示空）
+ * 删除的节点进入空闲链表，稳态下插入删除不再分配对象
+ */
+public class ArenaLinkedListDS implements DataStructure {
+    public static final int NIL = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] value;
+    private int[] next;
+    private int head = NIL;
+    private int tail = NIL;
+    private int free = NIL; // 空闲链表头（通过 next[] 串联）
+    private int used;       // 已使用过的最高槽位（之后的槽位从未分配）
+    private int size;
+
+    public ArenaLinkedListDS() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArenaLinkedListDS(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("容量不能为负数");
+        }
+        value = new int[initialCapacity];
+        next = new int[initialCapacity];
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int v) {
+        // 插入到链表尾部
+        int node = allocate(v);
+        if (head == NIL) {
+            head = node;
+        } else {
+            next[tail] = node;
+        }
+        tail = node;
+        size++;
+    }
+
+    @Override
+    public void delete(int v) {
+        int prev = NIL;
+        for (int cur = head; cur != NIL; prev = cur, cur = next[cur]) {
+            if (value[cur] == v) {
+                unlink(prev, cur);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean search(int v) {
+        for (int cur = head; cur != NIL; cur = next[cur]) {
+            if (value[cur] == v) return true;
+        }
+        return false;
+    }
+
+    /** 批量删除：每个值删除一个匹配节点（与逐个 delete 相同），只遍历一遍链表 */
+    @Override
+    public void deleteAll(int[] values) {
+        if (values.length == 0 || head == NIL) return;
+        BatchOps.KeyCounts pending = new BatchOps.KeyCounts(values);
+        int prev = NIL;
+        int cur = head;
+        while (cur != NIL && !pending.isEmpty()) {
+            int following = next[cur];
+            if (pending.take(value[cur])) {
+                unlink(prev, cur);
+            } else {
+                prev = cur;
+            }
+            cur = following;
+        }
+    }
+
+    /** 批量查找：只遍历一遍链表 */
+    @Override
+    public BitSet searchAll(int[] values) {
+        return BatchOps.searchUnordered(stream().iterator(), values);
+    }
+
+    @Override
+    public IntStream stream() {
+        PrimitiveIterator.OfInt it = new PrimitiveIterator.OfInt() {
+            private int current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != NIL;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == NIL) throw new NoSuchElementException();
+                int v = value[current];
+                current = next[current];
+                return v;
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliterator(it, size, Spliterator.ORDERED), false);
+    }
+
+    // ================== 扩展方法 ==================
+
+    /** 头插 */
+    public void insertFirst(int v) {
+        int node = allocate(v);
+        next[node] = head;
+        head = node;
+        if (tail == NIL) {
+            tail = node;
+        }
+        size++;
+    }
+
+    /** 删除并返回头节点的值 */
+    public int removeFirst() {
+        if (head == NIL) {
+            throw new RuntimeException("链表为空");
+        }
+        int v = value[head];
+        unlink(NIL, head);
+        return v;
+    }
+
+    /** 获取第 index 个节点的值 */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("下标越界");
+        }
+        int cur = head;
+        for (int i = 0; i < index; i++) {
+            cur = next[cur];
+        }
+        return value[cur];
+    }
+
+    /**
+     * 整理：按链表逻辑顺序重新排列槽位，使第 i 个节点位于下标 i
+     * 之后顺序遍历即为顺序访问内存，空闲槽位全部排在末尾
+     */
+    public void compact() {
+        int[] ordered = new int[value.length];
+        int i = 0;
+        for (int cur = head; cur != NIL; cur = next[cur]) {
+            ordered[i++] = value[cur];
+        }
+        value = ordered;
+        for (int k = 0; k < size; k++) {
+            next[k] = k + 1;
+        }
+        if (size > 0) {
+            next[size - 1] = NIL;
+            head = 0;
+            tail = size - 1;
+        } else {
+            head = tail = NIL;
+        }
+        free = NIL;
+        used = size;
+    }
+
+    /** 获取链表长度 */
+    public int size() {
+        return size;
+    }
+
+    /** 槽位容量 */
+    public int capacity() {
+        return value.length;
+    }
+
+    /** 清空链表（保留已分配的数组） */
+    public void clear() {
+        head = tail = free = NIL;
+        used = 0;
+        size = 0;
+    }
+
+    /** 打印链表内容 */
+    public void printList() {
+        for (int cur = head; cur != NIL; cur = next[cur]) {
+            System.out.print(value[cur] + " -> ");
+        }
+        System.out.println("null");
+    }
+
+    /** 复制出当前内容 */
+    public int[] toArray() {
+        int[] out = new int[size];
+        int i = 0;
+        for (int cur = head; cur != NIL; cur = next[cur]) {
+            out[i++] = value[cur];
+        }
+        return out;
+    }
+
+    // ================== 游标访问（不分配对象） ==================
+
+    /** 头节点下标，空链表返回 NIL */
+    public int head() {
+        return head;
+    }
+
+    /** 后继节点下标 */
+    public int next(int node) {
+        return next[node];
+    }
+
+    /** 节点值 */
+    public int value(int node) {
+        return value[node];
+    }
+
+    // ================== 内部方法 ==================
+
+    private int allocate(int v) {
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = next[node];
+        } else {
+            if (used == value.length) {
+                int newCapacity = Math.max(DEFAULT_CAPACITY, value.length + (value.length >> 1));
+                value = Arrays.copyOf(value, newCapacity);
+                next = Arrays.copyOf(next, newCapacity);
+            }
+            node = used++;
+        }
+        value[node] = v;
+        next[node] = NIL;
+        return node;
+    }
+
+    /** 摘下 cur（prev 为其前驱，NIL 表示 cur 是头节点）并归还到空闲链表 */
+    private void unlink(int prev, int cur) {
+        if (prev == NIL) {
+            head = next[cur];
+        } else {
+            next[prev] = next[cur];
+        }
+        if (cur == tail) {
+            tail = prev;
+        }
+        next[cur] = free;
+        free = cur;
+        size--;
+    }
+}
@@ -1,61 +1,218 @@
 package org.datastructure;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
 
 /**
- * 顺序表（基于 ArrayList 实现）
+ * 顺序表（基于 int[] 实现，避免装箱）
  */
 public class ArrayListDS implements DataStructure {
-    private ArrayList<Integer> list;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] data; // 底层连续存储
+    private int size;   // 当前元素个数
 
     public ArrayListDS() {
-        list = new ArrayList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayListDS(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("容量不能为负数");
+        }
+        data = new int[initialCapacity];
+        size = 0;
     }
 
     @Override
     public void insert(int value) {
         // 插入到末尾
-        list.add(value);
+        ensureCapacity(size + 1);
+        data[size++] = value;
     }
 
     @Override
     public void delete(int value) {
         // 删除第一个匹配的值
-        list.remove((Integer) value);
+        int index = indexOf(value);
+        if (index >= 0) {
+            removeAt(index);
+        }
     }
 
     @Override
     public boolean search(int value) {
-        return list.contains(value);
+        return indexOf(value) >= 0;
     }
 
     // ================== 扩展方法 ==================
 
     /** 获取指定下标元素 */
     public int get(int index) {
-        return list.get(index);
+        checkIndex(index);
+        return data[index];
     }
 
     /** 在指定位置插入 */
     public void insertAt(int index, int value) {
-        if (index < 0 || index > list.size()) {
+        if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException("下标越界");
         }
-        list.add(index, value);
+        ensureCapacity(size + 1);
+        System.arraycopy(data, index, data, index + 1, size - index);
+        data[index] = value;
+        size++;
+    }
+
+    /** 删除指定下标元素，返回被删除的值 */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int old = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    /** 返回第一个匹配值的下标，不存在返回 -1 */
+    public int indexOf(int value) {
+        return SearchEngine.indexOf(data, 0, size, value);
+    }
+
+    /** 批量追加到末尾（只扩容一次） */
+    public void addAll(int[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * 批量删除：删除所有等于 values 中任意值的元素
+     * 单趟压缩，返回删除的元素个数；只删一个匹配时用 deleteAll(int[])
+     */
+    public int removeAll(int[] values) {
+        if (values.length == 0 || size == 0) return 0;
+        int[] keys = values.clone();
+        Arrays.sort(keys);
+
+        int[] a = data;
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            int v = a[read];
+            if (Arrays.binarySearch(keys, v) < 0) {
+                a[write++] = v;
+            }
+        }
+        int removed = size - write;
+        size = write;
+        return removed;
+    }
+
+    /** 删除所有等于 value 的元素（单趟压缩），返回删除个数；与 removeAll(int[]) 语义一致 */
+    public int removeAll(int value) {
+        int[] a = data;
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (a[read] != value) {
+                a[write++] = a[read];
+            }
+        }
+        int removed = size - write;
+        size = write;
+        return removed;
+    }
+
+    @Override
+    public void insertAll(int[] values) {
+        addAll(values);
+    }
+
+    /** 批量删除：每个值删除一个匹配元素（与逐个 delete 相同），单趟压缩完成 */
+    @Override
+    public void deleteAll(int[] values) {
+        if (values.length == 0 || size == 0) return;
+        BatchOps.KeyCounts pending = new BatchOps.KeyCounts(values);
+        int[] a = data;
+        int write = 0;
+        int read = 0;
+        for (; read < size && !pending.isEmpty(); read++) {
+            int v = a[read];
+            if (!pending.take(v)) {
+                a[write++] = v;
+            }
+        }
+        // 剩余部分整体前移
+        System.arraycopy(a, read, a, write, size - read);
+        size = write + (size - read);
+    }
+
+    /** 批量查找：重复的查询只扫描一次，查询较多时改为对数组只扫描一遍 */
+    @Override
+    public BitSet searchAll(int[] values) {
+        BatchOps.KeyHits hits = new BatchOps.KeyHits(values);
+        hits.scan(data, 0, size);
+        return hits.found();
+    }
+
+    @Override
+    public IntStream stream() {
+        // 直接按下标区间拆分底层数组
+        return Arrays.stream(data, 0, size);
     }
 
     /** 获取当前大小 */
     public int size() {
-        return list.size();
+        return size;
+    }
+
+    /** 当前底层数组容量 */
+    public int capacity() {
+        return data.length;
+    }
+
+    /** 确保容量至少为 minCapacity：按 1.5 倍增长，不足时直接扩到所需大小 */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("顺序表容量溢出");
+        }
+        if (minCapacity <= data.length) return;
+        int newCapacity = data.length + (data.length >> 1);
+        if (newCapacity < minCapacity || newCapacity < 0) {
+            newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        }
+        data = Arrays.copyOf(data, newCapacity);
+    }
+
+    /** 把容量收缩到当前大小，释放多余内存 */
+    public void trimToSize() {
+        if (data.length > size) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+
+    /** 复制出当前内容 */
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
     }
 
     /** 清空顺序表 */
     public void clear() {
-        list.clear();
+        size = 0;
     }
 
     /** 打印顺序表内容（调试用） */
     public void printList() {
-        System.out.println(list);
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(data[i]);
+        }
+        System.out.println(sb.append(']'));
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("下标越界");
+        }
     }
 }
@@ -0,0 +1,372 @@
+package org.datastructure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * B+ 树（集合语义，不存重复键）
+ * 每个节点的键存放在一个有序 int 数组中，节点内二分查找，一次缓存未命中可以排除 fanout 个分支
+ * 所有键都在叶子中，叶子按顺序链接，区间扫描只需顺着叶子链走
+ * fanout 为每个节点的最大分叉数，1024 时一个节点的键约占一个 4KB 页
+ * 16 时叶子最多 16 个键共 64 字节，但键数组还带 16 字节对象头和分裂前暂存用的一个溢出槽，
+ * 且不按缓存行对齐，实际通常跨两条 64 字节缓存行
+ */
+public class BPlusTreeDS implements DataStructure {
+    public static final int DEFAULT_FANOUT = 64;
+    private static final int MAX_HEIGHT = 40;
+
+    // ================== 节点类 ==================
+    static final class Node {
+        final int[] keys;
+        int count;            // 键的个数
+        final Node[] children; // 叶子为 null；内部节点有 count + 1 个孩子
+        Node next;            // 叶子链表中的后继
+
+        Node(int keyCapacity, boolean leaf) {
+            this.keys = new int[keyCapacity];
+            this.children = leaf ? null : new Node[keyCapacity + 1];
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    private final int fanout;
+    private final int minLeafKeys;  // 非根叶子的最少键数
+    private final int minInnerKeys; // 非根内部节点的最少键数
+    private Node root;
+    private int height = 1; // 叶子所在层为第 1 层
+    private int size;
+
+    // 查找路径缓存，避免每次操作分配：path[d] 为第 d 层节点，slot[d] 为走向下一层的孩子下标
+    private final Node[] path = new Node[MAX_HEIGHT];
+    private final int[] slot = new int[MAX_HEIGHT];
+
+    public BPlusTreeDS() {
+        this(DEFAULT_FANOUT);
+    }
+
+    /** @param fanout 每个节点最多的键数（叶子）或孩子数（内部节点），需在 [4, 65536] 之间 */
+    public BPlusTreeDS(int fanout) {
+        if (fanout < 4 || fanout > 1 << 16) {
+            throw new IllegalArgumentException("fanout 需在 [4, 65536] 之间");
+        }
+        this.fanout = fanout;
+        this.minLeafKeys = fanout / 2;
+        this.minInnerKeys = (fanout + 1) / 2 - 1;
+        this.root = newLeaf();
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        Node leaf = descend(value);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, value);
+        if (pos >= 0) return; // 已存在
+        insertAt(leaf, -pos - 1, value, null);
+        size++;
+
+        // 自底向上分裂溢出的节点
+        Node node = leaf;
+        for (int d = height - 1; overflows(node); d--) {
+            Node right = node.isLeaf() ? splitLeaf(node) : null;
+            int separator;
+            if (right != null) {
+                separator = right.keys[0];
+            } else {
+                right = newInner();
+                separator = splitInner(node, right);
+            }
+            if (d == 0) {
+                Node newRoot = newInner();
+                newRoot.keys[0] = separator;
+                newRoot.children[0] = node;
+                newRoot.children[1] = right;
+                newRoot.count = 1;
+                root = newRoot;
+                height++;
+                return;
+            }
+            Node parent = path[d - 1];
+            insertAt(parent, slot[d - 1], separator, right);
+            node = parent;
+        }
+    }
+
+    @Override
+    public void delete(int value) {
+        Node leaf = descend(value);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, value);
+        if (pos < 0) return;
+        removeAt(leaf, pos, pos);
+        size--;
+
+        // 自底向上修复下溢：先向兄弟借，借不到就合并
+        Node node = leaf;
+        for (int d = height - 1; d > 0 && underflows(node); d--) {
+            Node parent = path[d - 1];
+            int i = slot[d - 1];
+            if (i > 0 && canLend(parent.children[i - 1])) {
+                borrowFromLeft(parent, i);
+                return;
+            }
+            if (i < parent.count && canLend(parent.children[i + 1])) {
+                borrowFromRight(parent, i);
+                return;
+            }
+            // 与兄弟合并：总是把右边的节点并入左边
+            merge(parent, i > 0 ? i - 1 : i);
+            node = parent;
+        }
+        if (!root.isLeaf() && root.count == 0) {
+            root = root.children[0];
+            height--;
+        }
+    }
+
+    @Override
+    public boolean search(int value) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[childIndex(node, value)];
+        }
+        return Arrays.binarySearch(node.keys, 0, node.count, value) >= 0;
+    }
+
+    /** 升序流，沿叶子链遍历 */
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    // ================== 区间扫描 ==================
+
+    /** 升序迭代器 */
+    public PrimitiveIterator.OfInt iterator() {
+        Node first = root;
+        while (!first.isLeaf()) {
+            first = first.children[0];
+        }
+        return new LeafIterator(first, 0);
+    }
+
+    /** 按升序对 [lo, hi] 内的每个键执行 action：定位到起始叶子后顺着叶子链扫描 */
+    public void forEachInRange(int lo, int hi, IntConsumer action) {
+        if (lo > hi) return;
+        Node leaf = root;
+        while (!leaf.isLeaf()) {
+            leaf = leaf.children[childIndex(leaf, lo)];
+        }
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, lo);
+        int i = pos >= 0 ? pos : -pos - 1;
+        for (; leaf != null; leaf = leaf.next, i = 0) {
+            int[] keys = leaf.keys;
+            for (; i < leaf.count; i++) {
+                if (keys[i] > hi) return;
+                action.accept(keys[i]);
+            }
+        }
+    }
+
+    private static final class LeafIterator implements PrimitiveIterator.OfInt {
+        private Node leaf;
+        private int index;
+
+        LeafIterator(Node leaf, int index) {
+            this.leaf = leaf;
+            this.index = index;
+            skipExhausted();
+        }
+
+        private void skipExhausted() {
+            while (leaf != null && index == leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null;
+        }
+
+        @Override
+        public int nextInt() {
+            if (leaf == null) throw new NoSuchElementException();
+            int value = leaf.keys[index++];
+            skipExhausted();
+            return value;
+        }
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    /** 树高（只有一个叶子时为 1） */
+    public int height() {
+        return height;
+    }
+
+    public int fanout() {
+        return fanout;
+    }
+
+    public void clear() {
+        root = newLeaf();
+        height = 1;
+        size = 0;
+    }
+
+    // ================== 内部方法 ==================
+
+    private Node newLeaf() {
+        // 多留一个槽位，插入后再分裂
+        return new Node(fanout + 1, true);
+    }
+
+    private Node newInner() {
+        return new Node(fanout, false);
+    }
+
+    /** 从根走到 value 所在的叶子，沿途记录 path/slot */
+    private Node descend(int value) {
+        Node node = root;
+        for (int d = 0; d < height - 1; d++) {
+            int i = childIndex(node, value);
+            path[d] = node;
+            slot[d] = i;
+            node = node.children[i];
+        }
+        return node;
+    }
+
+    /** 内部节点中 value 所在的孩子：孩子 i 包含 [keys[i-1], keys[i]) 内的键 */
+    private static int childIndex(Node node, int value) {
+        int pos = Arrays.binarySearch(node.keys, 0, node.count, value);
+        return pos >= 0 ? pos + 1 : -pos - 1;
+    }
+
+    private boolean overflows(Node node) {
+        return node.isLeaf() ? node.count > fanout : node.count > fanout - 1;
+    }
+
+    private boolean underflows(Node node) {
+        return node.count < (node.isLeaf() ? minLeafKeys : minInnerKeys);
+    }
+
+    private boolean canLend(Node node) {
+        return node.count > (node.isLeaf() ? minLeafKeys : minInnerKeys);
+    }
+
+    /** 在下标 pos 处插入键；内部节点同时把 child 插到键的右侧 */
+    private static void insertAt(Node node, int pos, int key, Node child) {
+        System.arraycopy(node.keys, pos, node.keys, pos + 1, node.count - pos);
+        node.keys[pos] = key;
+        if (child != null) {
+            System.arraycopy(node.children, pos + 1, node.children, pos + 2, node.count - pos);
+            node.children[pos + 1] = child;
+        }
+        node.count++;
+    }
+
+    /** 删除下标 keyPos 的键；内部节点同时删除下标 childPos 的孩子 */
+    private static void removeAt(Node node, int keyPos, int childPos) {
+        System.arraycopy(node.keys, keyPos + 1, node.keys, keyPos, node.count - keyPos - 1);
+        if (!node.isLeaf()) {
+            System.arraycopy(node.children, childPos + 1, node.children, childPos, node.count - childPos);
+            node.children[node.count] = null;
+        }
+        node.count--;
+    }
+
+    /** 叶子对半分裂，返回新的右叶子 */
+    private Node splitLeaf(Node leaf) {
+        Node right = newLeaf();
+        int half = leaf.count / 2;
+        right.count = leaf.count - half;
+        System.arraycopy(leaf.keys, half, right.keys, 0, right.count);
+        leaf.count = half;
+        right.next = leaf.next;
+        leaf.next = right;
+        return right;
+    }
+
+    /** 内部节点对半分裂到 right，返回上移到父节点的中间键 */
+    private static int splitInner(Node node, Node right) {
+        int mid = node.count / 2;
+        int separator = node.keys[mid];
+        right.count = node.count - mid - 1;
+        System.arraycopy(node.keys, mid + 1, right.keys, 0, right.count);
+        System.arraycopy(node.children, mid + 1, right.children, 0, right.count + 1);
+        Arrays.fill(node.children, mid + 1, node.count + 1, null);
+        node.count = mid;
+        return separator;
+    }
+
+    /** parent 的第 i 个孩子从左兄弟借一个键 */
+    private static void borrowFromLeft(Node parent, int i) {
+        Node left = parent.children[i - 1];
+        Node node = parent.children[i];
+        if (node.isLeaf()) {
+            insertAt(node, 0, left.keys[left.count - 1], null);
+            left.count--;
+            parent.keys[i - 1] = node.keys[0];
+        } else {
+            // 父节点的分隔键下移，左兄弟的最后一个键上移
+            System.arraycopy(node.keys, 0, node.keys, 1, node.count);
+            System.arraycopy(node.children, 0, node.children, 1, node.count + 1);
+            node.keys[0] = parent.keys[i - 1];
+            node.children[0] = left.children[left.count];
+            node.count++;
+            parent.keys[i - 1] = left.keys[left.count - 1];
+            left.children[left.count] = null;
+            left.count--;
+        }
+    }
+
+    /** parent 的第 i 个孩子从右兄弟借一个键 */
+    private static void borrowFromRight(Node parent, int i) {
+        Node node = parent.children[i];
+        Node right = parent.children[i + 1];
+        if (node.isLeaf()) {
+            node.keys[node.count++] = right.keys[0];
+            removeAt(right, 0, 0);
+            parent.keys[i] = right.keys[0];
+        } else {
+            node.keys[node.count] = parent.keys[i];
+            node.children[node.count + 1] = right.children[0];
+            node.count++;
+            parent.keys[i] = right.keys[0];
+            removeAt(right, 0, 0);
+        }
+    }
+
+    /** 把 parent 的第 i + 1 个孩子并入第 i 个孩子，并删除二者之间的分隔键 */
+    private static void merge(Node parent, int i) {
+        Node left = parent.children[i];
+        Node right = parent.children[i + 1];
+        if (left.isLeaf()) {
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            left.count += right.count;
+            left.next = right.next;
+        } else {
+            left.keys[left.count] = parent.keys[i];
+            System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+            System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+        removeAt(parent, i, i + 1);
+    }
+}
@@ -0,0 +1,192 @@
+package org.datastructure;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+
+/**
+ * 批量操作的公共工具：排序去重、多重集合计数、有序归并查找、无序批量查找
+ */
+final class BatchOps {
+
+    /** 交错查找默认同时推进的查找路数 */
+    static final int INTERLEAVE_WIDTH = 16;
+
+    private BatchOps() {
+    }
+
+    /** 返回排好序且去重的副本 */
+    static int[] sortedDistinct(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (n == 0 || sorted[n - 1] != sorted[i]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return n == sorted.length ? sorted : Arrays.copyOf(sorted, n);
+    }
+
+    /**
+     * 批量规模相对结构规模足够大时（m·log n > n），整体归并比逐个查找更划算
+     */
+    static boolean preferMerge(long n, int m) {
+        return (long) m * (64 - Long.numberOfLeadingZeros(n + 1)) > n;
+    }
+
+    /** 是否非降序 */
+    static boolean isAscending(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1]) return false;
+        }
+        return true;
+    }
+
+    static void checkWidth(int width) {
+        if (width < 1 || width > 64) {
+            throw new IllegalArgumentException("交错路数需在 [1, 64] 之间");
+        }
+    }
+
+    /** 在非降序的键序列上归并查找所有 queries */
+    static BitSet mergeSearch(PrimitiveIterator.OfInt sortedKeys, int[] queries) {
+        BitSet found = new BitSet(queries.length);
+        // 高 32 位为查询值，低 32 位为原下标，排序后按值升序
+        long[] packed = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            packed[i] = ((long) queries[i] << 32) | i;
+        }
+        Arrays.sort(packed);
+
+        if (!sortedKeys.hasNext()) return found;
+        int key = sortedKeys.nextInt();
+        for (long p : packed) {
+            int q = (int) (p >> 32);
+            while (key < q) {
+                if (!sortedKeys.hasNext()) return found;
+                key = sortedKeys.nextInt();
+            }
+            if (key == q) {
+                found.set((int) p);
+            }
+        }
+        return found;
+    }
+
+    /** 对任意顺序的元素序列扫描一遍，查找所有 queries；全部命中后提前结束 */
+    static BitSet searchUnordered(PrimitiveIterator.OfInt elements, int[] queries) {
+        KeyHits hits = new KeyHits(queries);
+        while (!hits.isComplete() && elements.hasNext()) {
+            hits.offer(elements.nextInt());
+        }
+        return hits.found();
+    }
+
+    /**
+     * 一批查询在无序元素上的命中情况
+     * 按块扫描时，不同查询较少则对每个未命中的查询用 SearchEngine 做一次 SIMD 扫描，
+     * 较多时才逐个元素在排好序的查询中二分查找
+     */
+    static final class KeyHits {
+        private static final int SIMD_KEYS = 256; // 超过该数目时 SIMD 逐查询扫描不再比二分查找快
+
+        private final int[] queries;
+        private final int[] keys; // 去重排序后的查询
+        private final boolean[] hit;
+        private int remaining;
+
+        KeyHits(int[] queries) {
+            this.queries = queries;
+            this.keys = sortedDistinct(queries);
+            this.hit = new boolean[keys.length];
+            this.remaining = keys.length;
+        }
+
+        /** 记录一个元素 */
+        void offer(int element) {
+            int p = Arrays.binarySearch(keys, element);
+            if (p >= 0 && !hit[p]) {
+                hit[p] = true;
+                remaining--;
+            }
+        }
+
+        /** 记录 block[from, to) 中的所有元素 */
+        void scan(int[] block, int from, int to) {
+            if (keys.length > SIMD_KEYS) {
+                for (int i = from; i < to && remaining > 0; i++) {
+                    offer(block[i]);
+                }
+                return;
+            }
+            for (int j = 0; j < keys.length; j++) {
+                if (!hit[j] && SearchEngine.indexOf(block, from, to, keys[j]) >= 0) {
+                    hit[j] = true;
+                    remaining--;
+                }
+            }
+        }
+
+        /** 所有查询都已命中 */
+        boolean isComplete() {
+            return remaining == 0;
+        }
+
+        /** 第 i 位为 true 表示 queries[i] 存在 */
+        BitSet found() {
+            BitSet found = new BitSet(queries.length);
+            for (int i = 0; i < queries.length; i++) {
+                if (hit[Arrays.binarySearch(keys, queries[i])]) {
+                    found.set(i);
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * 待删除值的多重集合：同一个值出现几次就删除几个匹配元素
+     * 与逐个调用 delete（每次删除第一个匹配）的语义一致
+     */
+    static final class KeyCounts {
+        private final int[] keys;
+        private final int[] counts;
+        private int remaining;
+
+        KeyCounts(int[] values) {
+            int[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int[] k = new int[sorted.length];
+            int[] c = new int[sorted.length];
+            int n = 0;
+            for (int v : sorted) {
+                if (n > 0 && k[n - 1] == v) {
+                    c[n - 1]++;
+                } else {
+                    k[n] = v;
+                    c[n++] = 1;
+                }
+            }
+            this.keys = Arrays.copyOf(k, n);
+            this.counts = Arrays.copyOf(c, n);
+            this.remaining = sorted.length;
+        }
+
+        /** 若 value 仍有待删除次数则消耗一次并返回 true */
+        boolean take(int value) {
+            if (remaining == 0) return false;
+            int p = Arrays.binarySearch(keys, value);
+            if (p >= 0 && counts[p] > 0) {
+                counts[p]--;
+                remaining--;
+                return true;
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return remaining == 0;
+        }
+    }
+}
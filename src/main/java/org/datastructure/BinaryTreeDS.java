@@ -1,5 +1,12 @@
 package org.datastructure;
 
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * 普通二叉树实现
  */
@@ -39,6 +46,15 @@ public class BinaryTreeDS implements DataStructure {
         return searchRecursive(root, value);
     }
 
+    /** 前序遍历顺序的流，按子树拆分 */
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeSpliterator.preOrder(root, -1, ACCESS, Spliterator.ORDERED), false);
+    }
+
+    private static final TreeSpliterator.Access<Node> ACCESS =
+            TreeSpliterator.Access.of(n -> n.left, n -> n.right, n -> n.value);
+
     // ================== 递归方法 ==================
 
     private Node insertRecursive(Node current, int value) {
@@ -105,6 +121,45 @@ public class BinaryTreeDS implements DataStructure {
         }
     }
 
+    /** 前序原始类型迭代器，使用显式栈，逐元素不分配对象 */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PreOrderIterator(root);
+    }
+
+    private static final class PreOrderIterator implements PrimitiveIterator.OfInt {
+        private Node[] stack = new Node[16];
+        private int sp;
+
+        PreOrderIterator(Node root) {
+            if (root != null) {
+                stack[sp++] = root;
+            }
+        }
+
+        private void push(Node node) {
+            if (sp == stack.length) stack = Arrays.copyOf(stack, sp * 2);
+            stack[sp++] = node;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sp > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (sp == 0) {
+                throw new NoSuchElementException();
+            }
+            Node node = stack[--sp];
+            stack[sp] = null;
+            // 先压右再压左，保证左子树先出栈
+            if (node.right != null) push(node.right);
+            if (node.left != null) push(node.left);
+            return node.value;
+        }
+    }
+
     /** 获取根节点（方便可视化调用） */
     public Node getRoot() {
         return root;
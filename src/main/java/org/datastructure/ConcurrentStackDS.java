@@ -0,0 +1,162 @@
+package org.datastructure;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 无锁并发栈：Treiber 栈 + 消除回退 (elimination backoff)
+ * 栈顶 CAS 失败时，push 把节点挂到消除数组的随机槽位上等待，
+ * 同时失败的 pop 从槽位直接取走节点，二者互相抵消而不触碰栈顶
+ */
+public class ConcurrentStackDS implements DataStructure {
+
+    // ================== 节点类 ==================
+    static final class Node {
+        final int value;
+        Node next;
+
+        Node(int value) {
+            this.value = value;
+        }
+    }
+
+    private static final int SPIN_TRIES = 64; // push 在槽位上等待配对的自旋次数
+
+    private final AtomicReference<Node> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Node> elimination; // 为 null 表示关闭消除
+
+    public ConcurrentStackDS() {
+        this(true);
+    }
+
+    /** @param eliminate 是否启用消除数组（关闭后为纯 Treiber 栈，便于对比） */
+    public ConcurrentStackDS(boolean eliminate) {
+        int slots = Math.max(1, Math.min(16, Runtime.getRuntime().availableProcessors() / 2));
+        this.elimination = eliminate ? new AtomicReferenceArray<>(slots) : null;
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        push(value);
+    }
+
+    @Override
+    public void delete(int value) {
+        pop();
+    }
+
+    /** 在调用时刻的栈快照中查找（弱一致） */
+    @Override
+    public boolean search(int value) {
+        for (Node n = top.get(); n != null; n = n.next) {
+            if (n.value == value) return true;
+        }
+        return false;
+    }
+
+    /** 调用时刻栈快照的流（从栈顶到栈底） */
+    @Override
+    public IntStream stream() {
+        PrimitiveIterator.OfInt it = new PrimitiveIterator.OfInt() {
+            private Node current = top.get();
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) throw new NoSuchElementException();
+                int value = current.value;
+                current = current.next;
+                return value;
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false);
+    }
+
+    // ================== 栈操作 ==================
+
+    public void push(int value) {
+        Node node = new Node(value);
+        while (true) {
+            Node oldTop = top.get();
+            node.next = oldTop;
+            if (top.compareAndSet(oldTop, node)) {
+                return;
+            }
+            if (elimination != null && tryEliminatePush(node)) {
+                return;
+            }
+        }
+    }
+
+    public int pop() {
+        while (true) {
+            Node oldTop = top.get();
+            if (oldTop == null) {
+                throw new RuntimeException("栈为空");
+            }
+            if (top.compareAndSet(oldTop, oldTop.next)) {
+                return oldTop.value;
+            }
+            if (elimination != null) {
+                Node taken = tryEliminatePop();
+                if (taken != null) {
+                    return taken.value;
+                }
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /** 遍历计数（弱一致，O(n)） */
+    public int size() {
+        int count = 0;
+        for (Node n = top.get(); n != null; n = n.next) {
+            count++;
+        }
+        return count;
+    }
+
+    // ================== 消除数组 ==================
+
+    /** 把节点放到随机槽位上等待 pop 取走，成功被取走返回 true */
+    private boolean tryEliminatePush(Node node) {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        if (!elimination.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < SPIN_TRIES; i++) {
+            if (elimination.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // 超时撤回；撤回失败说明恰好被 pop 取走
+        return !elimination.compareAndSet(slot, node, null);
+    }
+
+    /** 尝试从随机槽位取走一个等待中的 push 节点 */
+    private Node tryEliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        Node node = elimination.get(slot);
+        if (node != null && elimination.compareAndSet(slot, node, null)) {
+            return node;
+        }
+        return null;
+    }
+}
@@ -1,8 +1,42 @@
 package org.datastructure;
 
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
 public interface DataStructure {
     void insert(int value);
     void delete(int value);
     boolean search(int value);
+
+    /** 批量插入，默认逐个调用 insert */
+    default void insertAll(int[] values) {
+        for (int value : values) {
+            insert(value);
+        }
+    }
+
+    /**
+     * 批量删除：效果必须与逐个调用 delete 相同，即 values 中每出现一次删除一个匹配元素
+     * 默认逐个调用 delete
+     */
+    default void deleteAll(int[] values) {
+        for (int value : values) {
+            delete(value);
+        }
+    }
+
+    /** 批量查找：第 i 位为 true 表示 values[i] 存在，默认逐个调用 search */
+    default BitSet searchAll(int[] values) {
+        BitSet found = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (search(values[i])) {
+                found.set(i);
+            }
+        }
+        return found;
+    }
+
+    /** 以 IntStream 形式遍历所有元素，可通过 parallel() 并行处理 */
+    IntStream stream();
 }
 
@@ -0,0 +1,161 @@
+package org.datastructure;
+
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 有序树的只读快照：键按 Eytzinger（层序）布局存放在一个 int 数组中
+ * 下标 k 的左右孩子为 2k、2k+1，根在下标 1；
+ * 靠近根的若干层集中在数组开头常驻缓存，节点往下四层的 16 个后代落在同一块连续内存中
+ * 查找不在中途比较相等，而是以无分支的方式一直走到底，最后一次比较即得结果
+ * 由 BSTreeDS.freeze() / AVLTreeDS.freeze() 生成，不可修改
+ */
+public final class FrozenTreeDS implements DataStructure {
+    private final int[] keys; // keys[0] 不用
+    private final int n;
+    private final int levels; // 完全二叉树层数
+
+    /** @param sorted 严格升序的键，构造后不再引用 */
+    FrozenTreeDS(int[] sorted) {
+        this.n = sorted.length;
+        this.keys = new int[n + 1];
+        this.levels = 32 - Integer.numberOfLeadingZeros(n);
+        fill(sorted, 0, 1);
+    }
+
+    /** 由任意数组构建（排序去重） */
+    public static FrozenTreeDS of(int[] values) {
+        return new FrozenTreeDS(BatchOps.sortedDistinct(values));
+    }
+
+    /**
+     * 后台构建：调用方先在本线程 O(n) 复制出有序键，布局构建交给公共线程池
+     * 调用方随即可以继续修改原树，读者在 future 完成后换用新快照
+     */
+    static CompletableFuture<FrozenTreeDS> buildAsync(int[] sorted) {
+        return CompletableFuture.supplyAsync(() -> new FrozenTreeDS(sorted));
+    }
+
+    /** 按中序把有序数组填入层序位置，返回下一个待填的有序下标 */
+    private int fill(int[] sorted, int i, int k) {
+        if (k <= n) {
+            i = fill(sorted, i, 2 * k);
+            keys[k] = sorted[i++];
+            i = fill(sorted, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        throw new UnsupportedOperationException("冻结快照不可修改");
+    }
+
+    @Override
+    public void delete(int value) {
+        throw new UnsupportedOperationException("冻结快照不可修改");
+    }
+
+    @Override
+    public boolean search(int value) {
+        int[] b = keys;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (b[k] < value ? 1 : 0);
+        }
+        return found(k, value);
+    }
+
+    /**
+     * 批量查找：每组 16 路交错推进，每轮各路各走一层
+     * 各路下降的层数固定（levels 或 levels-1），不需要逐路判断是否提前结束
+     */
+    @Override
+    public BitSet searchAll(int[] values) {
+        int width = BatchOps.INTERLEAVE_WIDTH;
+        int[] b = keys;
+        int[] cursor = new int[width];
+        BitSet found = new BitSet(values.length);
+        for (int base = 0; base < values.length; base += width) {
+            int lanes = Math.min(width, values.length - base);
+            for (int i = 0; i < lanes; i++) {
+                cursor[i] = 1;
+            }
+            for (int level = 0; level < levels; level++) {
+                for (int i = 0; i < lanes; i++) {
+                    int k = cursor[i];
+                    if (k <= n) {
+                        cursor[i] = 2 * k + (b[k] < values[base + i] ? 1 : 0);
+                    }
+                }
+            }
+            for (int i = 0; i < lanes; i++) {
+                if (found(cursor[i], values[base + i])) {
+                    found.set(base + i);
+                }
+            }
+        }
+        return found;
+    }
+
+    /** 升序流 */
+    @Override
+    public IntStream stream() {
+        PrimitiveIterator.OfInt it = new PrimitiveIterator.OfInt() {
+            private int k = n == 0 ? 0 : leftmost(1);
+
+            @Override
+            public boolean hasNext() {
+                return k != 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (k == 0) throw new NoSuchElementException();
+                int value = keys[k];
+                if (2 * k + 1 <= n) {
+                    k = leftmost(2 * k + 1);
+                } else {
+                    // 沿右孩子一路上行，再上一层即为后继；回到 0 表示结束
+                    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+                }
+                return value;
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliterator(it, n,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                        | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return n;
+    }
+
+    // ================== 内部方法 ==================
+
+    /**
+     * 下降结束时 k 的二进制去掉末尾的 1 和再上一位，就是最后一次向左走的节点，
+     * 即第一个不小于 value 的键；k 变为 0 说明所有键都小于 value
+     */
+    private boolean found(int k, int value) {
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && keys[k] == value;
+    }
+
+    private int leftmost(int k) {
+        while (2 * k <= n) {
+            k = 2 * k;
+        }
+        return k;
+    }
+}
@@ -1,6 +1,9 @@
 package org.datastructure;
 
 import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 /**
  * 哈夫曼树实现
@@ -56,6 +59,15 @@ public class HuffmanTreeDS implements DataStructure {
         return searchRecursive(root, value);
     }
 
+    /** 前序遍历顺序的流，按子树拆分 */
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeSpliterator.preOrder(root, -1, ACCESS, Spliterator.ORDERED), false);
+    }
+
+    private static final TreeSpliterator.Access<Node> ACCESS =
+            TreeSpliterator.Access.of(n -> n.left, n -> n.right, n -> n.value);
+
     private boolean searchRecursive(Node current, int value) {
         if (current == null) return false;
         if (current.value == value) return true;
@@ -0,0 +1,59 @@
+package org.datastructure;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 按下标区间拆分的 Spliterator，用于非 int[] 连续存储的顺序结构
+ * （分块栈、堆外顺序表），每次拆分取区间的前一半
+ */
+final class IndexSpliterator implements Spliterator.OfInt {
+    private final IntUnaryOperator getter;
+    private final int characteristics;
+    private int index;       // 下一个要访问的下标
+    private final int fence; // 结束下标（不含）
+
+    IndexSpliterator(IntUnaryOperator getter, int from, int to, int characteristics) {
+        this.getter = getter;
+        this.index = from;
+        this.fence = to;
+        this.characteristics = characteristics | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index < fence) {
+            action.accept(getter.applyAsInt(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        for (int i = index, end = fence; i < end; i++) {
+            action.accept(getter.applyAsInt(i));
+        }
+        index = fence;
+    }
+
+    @Override
+    public OfInt trySplit() {
+        int lo = index;
+        int mid = (lo + fence) >>> 1;
+        if (mid <= lo) return null;
+        index = mid;
+        return new IndexSpliterator(getter, lo, mid, characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,297 @@
+package org.datastructure;
+
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 可索引跳表：每层前向指针记录跨度 (span)，即跳过的底层节点数
+ * 按位置插入、删除、读取均为期望 O(log n)
+ * 有序模式下 insert 按值插入，search/delete/indexOf 也为 O(log n)
+ */
+public class IndexableSkipListDS implements DataStructure {
+    private static final int MAX_LEVEL = 32;
+
+    // ================== 节点类 ==================
+    static class Node {
+        int value;
+        Node[] next;
+        int[] span; // span[i]：从本节点沿第 i 层走到 next[i] 跨过的节点数（next 为空时为到表尾的剩余节点数）
+
+        Node(int value, int level) {
+            this.value = value;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    private final Node head = new Node(0, MAX_LEVEL);
+    private final boolean sorted;
+    private final SplittableRandom random = new SplittableRandom();
+    private int level = 1;
+    private int size;
+
+    // 查找路径缓存，避免每次操作分配
+    private final Node[] update = new Node[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+
+    /** 位置模式：insert 追加到末尾，行为与 LinkedListDS 相同 */
+    public IndexableSkipListDS() {
+        this(false);
+    }
+
+    /** @param sorted 为 true 时保持升序，insert 按值插入 */
+    public IndexableSkipListDS(boolean sorted) {
+        this.sorted = sorted;
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        if (!sorted) {
+            insertAt(size, value);
+            return;
+        }
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.next[i] != null && x.next[i].value < value) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        link(value);
+    }
+
+    @Override
+    public void delete(int value) {
+        if (!sorted) {
+            int index = indexOf(value);
+            if (index >= 0) removeAt(index);
+            return;
+        }
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].value < value) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node target = x.next[0];
+        if (target != null && target.value == value) {
+            unlink(target);
+        }
+    }
+
+    @Override
+    public boolean search(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /** 批量查找：有序模式下与底层链归并，位置模式下只扫描一遍 */
+    @Override
+    public BitSet searchAll(int[] values) {
+        PrimitiveIterator.OfInt it = stream().iterator();
+        return sorted ? BatchOps.mergeSearch(it, values) : BatchOps.searchUnordered(it, values);
+    }
+
+    @Override
+    public IntStream stream() {
+        PrimitiveIterator.OfInt it = new PrimitiveIterator.OfInt() {
+            private Node current = head.next[0];
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) throw new NoSuchElementException();
+                int value = current.value;
+                current = current.next[0];
+                return value;
+            }
+        };
+        int characteristics = Spliterator.ORDERED | (sorted ? Spliterator.SORTED : 0);
+        return StreamSupport.intStream(Spliterators.spliterator(it, size, characteristics), false);
+    }
+
+    // ================== 按位置操作 ==================
+
+    /** 获取第 index 个元素 */
+    public int get(int index) {
+        checkIndex(index);
+        Node x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= index + 1) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == index + 1) {
+                return x.value;
+            }
+        }
+        throw new IllegalStateException("跳表跨度不一致");
+    }
+
+    /** 在指定位置插入（仅位置模式） */
+    public void insertAt(int index, int value) {
+        if (sorted) {
+            throw new UnsupportedOperationException("有序跳表不支持按位置插入");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("下标越界");
+        }
+        findPredecessors(index);
+        link(value);
+    }
+
+    /** 删除指定位置元素，返回被删除的值 */
+    public int removeAt(int index) {
+        checkIndex(index);
+        findPredecessors(index);
+        Node target = update[0].next[0];
+        unlink(target);
+        return target.value;
+    }
+
+    /**
+     * 返回第一个等于 value 的元素下标，不存在返回 -1
+     * 有序模式下为 O(log n)，位置模式下沿底层线性扫描
+     */
+    public int indexOf(int value) {
+        if (!sorted) {
+            int i = 0;
+            for (Node x = head.next[0]; x != null; x = x.next[0], i++) {
+                if (x.value == value) return i;
+            }
+            return -1;
+        }
+        Node x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].value < value) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+        }
+        x = x.next[0];
+        return (x != null && x.value == value) ? traversed : -1;
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    public void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    public int[] toArray() {
+        int[] out = new int[size];
+        int i = 0;
+        for (Node x = head.next[0]; x != null; x = x.next[0]) {
+            out[i++] = x.value;
+        }
+        return out;
+    }
+
+    /** 打印内容 */
+    public void printList() {
+        for (Node x = head.next[0]; x != null; x = x.next[0]) {
+            System.out.print(x.value + " -> ");
+        }
+        System.out.println("null");
+    }
+
+    // ================== 内部方法 ==================
+
+    /** 填充 update/rank：update[i] 为第 i 层上位置 index 之前的最后一个节点 */
+    private void findPredecessors(int index) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while (x.next[i] != null && rank[i] + x.span[i] <= index) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+    }
+
+    /** 在 update/rank 描述的位置之后链入新节点 */
+    private void link(int value) {
+        int lvl = randomLevel();
+        if (lvl > level) {
+            for (int i = level; i < lvl; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = lvl;
+        }
+        Node x = new Node(value, lvl);
+        for (int i = 0; i < lvl; i++) {
+            x.next[i] = update[i].next[i];
+            update[i].next[i] = x;
+            x.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = lvl; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /** 摘下 update[0].next[0] 所指的节点 x */
+    private void unlink(Node x) {
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            head.span[level - 1] = 0;
+            level--;
+        }
+        size--;
+    }
+
+    /** 每层以 1/4 概率晋升 */
+    private int randomLevel() {
+        int lvl = 1;
+        while (lvl < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            lvl++;
+        }
+        return lvl;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("下标越界");
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.datastructure;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 开放寻址的 int 哈希集合：线性探测，删除时向后移位（不留墓碑）
+ * 槽位值 0 表示空槽，键 0 单独用一个标志记录
+ * 扩容是渐进的：超过负载因子时分配两倍大小的新表，之后每次插入/删除顺带搬迁旧表中的一小段，
+ * 搬迁期间查找两张表都看；每次只整段搬走完整的探测簇，旧表剩余部分仍是合法的线性探测表
+ */
+public class IntHashSetDS implements DataStructure {
+    public static final double DEFAULT_LOAD_FACTOR = 0.6;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MIGRATE_STEP = 64; // 每次操作至少搬迁的旧表槽位数
+    private static final int FREE = 0;
+
+    private final double loadFactor;
+    private int[] table;
+    private int shift;     // 哈希取高位：下标 = (key * 黄金比例常数) >>> shift
+    private int threshold; // 新表中的键数达到该值时扩容
+    private int count;     // 新表中的键数
+    private int size;      // 两张表中的键数，含键 0
+    private boolean hasZero;
+
+    // 渐进扩容状态：old 为 null 表示没有在搬迁
+    private int[] old;
+    private int oldShift;
+    private int migratePos;       // 下一个要搬迁的旧表槽位
+    private int migrateRemaining; // 旧表中还没扫描的槽位数
+
+    public IntHashSetDS() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    public IntHashSetDS(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * @param expectedSize 预计元素个数，按此预先分配避免扩容
+     * @param loadFactor   负载因子，需在 [0.1, 0.95] 之间；越小探测越短，占用内存越多
+     */
+    public IntHashSetDS(int expectedSize, double loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("容量不能为负数");
+        }
+        if (!(loadFactor >= 0.1 && loadFactor <= 0.95)) {
+            throw new IllegalArgumentException("负载因子需在 [0.1, 0.95] 之间");
+        }
+        this.loadFactor = loadFactor;
+        long needed = (long) Math.ceil(expectedSize / loadFactor) + 1;
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < needed && capacity < 1 << 30) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        if (value == FREE) {
+            if (!hasZero) {
+                hasZero = true;
+                size++;
+            }
+            return;
+        }
+        if (old != null) {
+            migrateStep();
+        }
+        if (indexOf(table, shift, value) >= 0 || (old != null && indexOf(old, oldShift, value) >= 0)) {
+            return; // 已存在
+        }
+        if (count >= threshold) {
+            startResize();
+        }
+        place(table, shift, value);
+        count++;
+        size++;
+    }
+
+    @Override
+    public void delete(int value) {
+        if (value == FREE) {
+            if (hasZero) {
+                hasZero = false;
+                size--;
+            }
+            return;
+        }
+        if (old != null) {
+            migrateStep();
+        }
+        if (remove(table, shift, value)) {
+            count--;
+            size--;
+        } else if (old != null && remove(old, oldShift, value)) {
+            size--;
+        }
+    }
+
+    @Override
+    public boolean search(int value) {
+        if (value == FREE) return hasZero;
+        return indexOf(table, shift, value) >= 0 || (old != null && indexOf(old, oldShift, value) >= 0);
+    }
+
+    /** 无序流（按槽位顺序） */
+    @Override
+    public IntStream stream() {
+        IntStream s = Arrays.stream(table).filter(k -> k != FREE);
+        if (old != null) {
+            s = IntStream.concat(s, Arrays.stream(old).filter(k -> k != FREE));
+        }
+        return hasZero ? IntStream.concat(IntStream.of(0), s) : s;
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    /** 当前（新）表的槽位数 */
+    public int capacity() {
+        return table.length;
+    }
+
+    /** 是否正在渐进扩容 */
+    public boolean isResizing() {
+        return old != null;
+    }
+
+    public void clear() {
+        Arrays.fill(table, FREE);
+        old = null;
+        count = 0;
+        hasZero = false;
+        size = 0;
+    }
+
+    // ================== 探测 ==================
+
+    private static int home(int key, int shift) {
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    /** 线性探测查找，返回槽位下标，不存在返回 -1 */
+    private static int indexOf(int[] t, int shift, int key) {
+        int mask = t.length - 1;
+        for (int i = home(key, shift); ; i = (i + 1) & mask) {
+            int k = t[i];
+            if (k == key) return i;
+            if (k == FREE) return -1;
+        }
+    }
+
+    /** 放入第一个空槽（调用方保证 key 不在表中） */
+    private static void place(int[] t, int shift, int key) {
+        int mask = t.length - 1;
+        int i = home(key, shift);
+        while (t[i] != FREE) {
+            i = (i + 1) & mask;
+        }
+        t[i] = key;
+    }
+
+    /**
+     * 删除 key：把同一簇中后面可以前移的键依次移进空位，保证每个键到其起始槽位之间没有空槽
+     */
+    private static boolean remove(int[] t, int shift, int key) {
+        int hole = indexOf(t, shift, key);
+        if (hole < 0) return false;
+        int mask = t.length - 1;
+        for (int i = (hole + 1) & mask; t[i] != FREE; i = (i + 1) & mask) {
+            int k = t[i];
+            // k 的起始槽位不在 (hole, i] 之间时，可以前移到 hole
+            if (((i - home(k, shift)) & mask) >= ((i - hole) & mask)) {
+                t[hole] = k;
+                hole = i;
+            }
+        }
+        t[hole] = FREE;
+        return true;
+    }
+
+    // ================== 渐进扩容 ==================
+
+    private void allocate(int capacity) {
+        table = new int[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        threshold = (int) Math.min(capacity - 1L, (long) (capacity * loadFactor));
+    }
+
+    /** 换上两倍大小的新表，旧表留待逐步搬迁 */
+    private void startResize() {
+        if (old != null) {
+            // 防御性处理：上一次搬迁尚未结束时先一次性搬完（按 MIGRATE_STEP 的步长正常不会发生）
+            while (old != null) {
+                migrateStep();
+            }
+        }
+        if (table.length == 1 << 30) {
+            throw new IllegalStateException("哈希表容量已达上限");
+        }
+        int[] previous = table;
+        int previousShift = shift;
+        allocate(previous.length << 1);
+        count = 0;
+        old = previous;
+        oldShift = previousShift;
+        // 从一个空槽之后开始，使每一步都从探测簇的开头搬起
+        int start = 0;
+        while (old[start] != FREE) {
+            start++;
+        }
+        migratePos = (start + 1) & (old.length - 1);
+        migrateRemaining = old.length;
+    }
+
+    /**
+     * 搬迁至少 MIGRATE_STEP 个旧表槽位，并且停在空槽之后：
+     * 每次都搬走完整的探测簇，旧表中剩余的簇不受影响
+     */
+    private void migrateStep() {
+        int mask = old.length - 1;
+        int scanned = 0;
+        while (migrateRemaining > 0) {
+            int k = old[migratePos];
+            if (k != FREE) {
+                old[migratePos] = FREE;
+                place(table, shift, k);
+                count++;
+            }
+            migratePos = (migratePos + 1) & mask;
+            migrateRemaining--;
+            if (++scanned >= MIGRATE_STEP && k == FREE) {
+                break;
+            }
+        }
+        if (migrateRemaining == 0) {
+            old = null;
+        }
+    }
+}
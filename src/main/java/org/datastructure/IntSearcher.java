@@ -0,0 +1,10 @@
+package org.datastructure;
+
+/**
+ * int 数组线性查找策略
+ */
+interface IntSearcher {
+
+    /** 在 a[from, to) 中查找 key，返回第一个匹配的下标，不存在返回 -1 */
+    int indexOf(int[] a, int from, int to, int key);
+}
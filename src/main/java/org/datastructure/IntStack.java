@@ -0,0 +1,174 @@
+package org.datastructure;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 分块的 int 栈（不装箱、不加锁）
+ * 元素存放在固定大小的块中，扩容只新增一块，不会复制已有数据；
+ * 出栈时最多保留一个空闲块作为缓冲（滞后阈值），多余的块立即释放
+ */
+public class IntStack {
+    private static final int DEFAULT_CHUNK_SHIFT = 12; // 每块 4096 个 int
+
+    private final int chunkShift;
+    private final int chunkMask;
+
+    private int[][] chunks = new int[4][];
+    private int chunkCount; // 已分配的块数
+    private int size;
+
+    public IntStack() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /** @param chunkShift 每块容量为 2^chunkShift 个 int */
+    public IntStack(int chunkShift) {
+        if (chunkShift < 1 || chunkShift > 24) {
+            throw new IllegalArgumentException("chunkShift 需在 [1, 24] 之间");
+        }
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+    }
+
+    // ================== 基本操作 ==================
+
+    public void push(int value) {
+        int c = size >>> chunkShift;
+        if (c == chunkCount) {
+            addChunk();
+        }
+        chunks[c][size & chunkMask] = value;
+        size++;
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new RuntimeException("栈为空");
+        }
+        size--;
+        int value = chunks[size >>> chunkShift][size & chunkMask];
+        if ((size & chunkMask) == 0) {
+            releaseSpareChunks();
+        }
+        return value;
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new RuntimeException("栈为空");
+        }
+        int top = size - 1;
+        return chunks[top >>> chunkShift][top & chunkMask];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 获取从栈底数起第 index 个元素（绘图用） */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("下标越界");
+        }
+        return chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    public boolean contains(int value) {
+        int chunkSize = chunkMask + 1;
+        for (int c = 0, base = 0; base < size; c++, base += chunkSize) {
+            if (SearchEngine.indexOf(chunks[c], 0, Math.min(chunkSize, size - base), value) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        size = 0;
+        releaseSpareChunks();
+    }
+
+    // ================== 批量操作 ==================
+
+    /** 按数组顺序依次入栈（values 最后一个元素成为栈顶） */
+    public void pushAll(int[] values) {
+        int from = 0;
+        while (from < values.length) {
+            int c = size >>> chunkShift;
+            if (c == chunkCount) {
+                addChunk();
+            }
+            int off = size & chunkMask;
+            int len = Math.min(values.length - from, chunkMask + 1 - off);
+            System.arraycopy(values, from, chunks[c], off, len);
+            from += len;
+            size += len;
+        }
+    }
+
+    /** 连续出栈 n 个元素，返回数组按出栈顺序排列（下标 0 为原栈顶） */
+    public int[] popN(int n) {
+        if (n < 0 || n > size) {
+            throw new RuntimeException("栈中元素不足 " + n + " 个");
+        }
+        int[] out = new int[n];
+        int i = 0;
+        while (i < n) {
+            int top = size - 1;
+            int[] chunk = chunks[top >>> chunkShift];
+            int off = top & chunkMask;
+            int len = Math.min(n - i, off + 1);
+            for (int k = 0; k < len; k++) {
+                out[i++] = chunk[off - k];
+            }
+            size -= len;
+        }
+        releaseSpareChunks();
+        return out;
+    }
+
+    /** 从栈底到栈顶复制出全部元素 */
+    public int[] toArray() {
+        int[] out = new int[size];
+        int chunkSize = chunkMask + 1;
+        for (int c = 0, base = 0; base < size; c++, base += chunkSize) {
+            System.arraycopy(chunks[c], 0, out, base, Math.min(chunkSize, size - base));
+        }
+        return out;
+    }
+
+    /** 从栈底到栈顶的流，按下标区间拆分 */
+    public IntStream stream() {
+        return StreamSupport.intStream(new IndexSpliterator(this::at, 0, size,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // ================== 内部方法 ==================
+
+    private int at(int index) {
+        return chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            // 只复制块引用表，不复制数据
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        chunks[chunkCount++] = new int[chunkMask + 1];
+    }
+
+    /** 除正在使用的块外最多保留一个空闲块 */
+    private void releaseSpareChunks() {
+        int needed = (size + chunkMask) >>> chunkShift;
+        while (chunkCount > needed + 1) {
+            chunks[--chunkCount] = null;
+        }
+    }
+}
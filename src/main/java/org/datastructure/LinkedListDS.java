@@ -1,5 +1,13 @@
 package org.datastructure;
 
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * 单链表实现
  */
@@ -17,9 +25,13 @@ public class LinkedListDS implements DataStructure {
     }
 
     private Node head; // 链表头节点
+    private Node tail; // 链表尾节点
+    private int size;  // 节点个数
 
     public LinkedListDS() {
         head = null;
+        tail = null;
+        size = 0;
     }
 
     // ================== DataStructure 接口实现 ==================
@@ -31,12 +43,10 @@ public class LinkedListDS implements DataStructure {
         if (head == null) {
             head = newNode;
         } else {
-            Node current = head;
-            while (current.next != null) {
-                current = current.next;
-            }
-            current.next = newNode;
+            tail.next = newNode;
         }
+        tail = newNode;
+        size++;
     }
 
     @Override
@@ -45,7 +55,7 @@ public class LinkedListDS implements DataStructure {
 
         // 如果要删的是头节点
         if (head.value == value) {
-            head = head.next;
+            removeFirst();
             return;
         }
 
@@ -53,7 +63,11 @@ public class LinkedListDS implements DataStructure {
         Node current = head;
         while (current.next != null) {
             if (current.next.value == value) {
+                if (current.next == tail) {
+                    tail = current;
+                }
                 current.next = current.next.next;
+                size--;
                 return;
             }
             current = current.next;
@@ -70,8 +84,128 @@ public class LinkedListDS implements DataStructure {
         return false;
     }
 
+    /** 批量追加 */
+    @Override
+    public void insertAll(int[] values) {
+        appendAll(values);
+    }
+
+    /** 批量删除：每个值删除一个匹配节点（与逐个 delete 相同），只遍历一遍链表 */
+    @Override
+    public void deleteAll(int[] values) {
+        if (values.length == 0 || head == null) return;
+        BatchOps.KeyCounts pending = new BatchOps.KeyCounts(values);
+        Node prev = null;
+        Node current = head;
+        while (current != null && !pending.isEmpty()) {
+            if (pending.take(current.value)) {
+                if (prev == null) {
+                    head = current.next;
+                } else {
+                    prev.next = current.next;
+                }
+                if (current == tail) {
+                    tail = prev;
+                }
+                size--;
+            } else {
+                prev = current;
+            }
+            current = current.next;
+        }
+    }
+
+    /** 批量查找：只遍历一遍链表 */
+    @Override
+    public BitSet searchAll(int[] values) {
+        return BatchOps.searchUnordered(stream().iterator(), values);
+    }
+
+    @Override
+    public IntStream stream() {
+        PrimitiveIterator.OfInt it = new PrimitiveIterator.OfInt() {
+            private Node current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public int nextInt() {
+                if (current == null) throw new NoSuchElementException();
+                int value = current.value;
+                current = current.next;
+                return value;
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliterator(it, size, Spliterator.ORDERED), false);
+    }
+
     // ================== 扩展方法 ==================
 
+    /** 头插 */
+    public void insertFirst(int value) {
+        Node newNode = new Node(value);
+        newNode.next = head;
+        head = newNode;
+        if (tail == null) {
+            tail = newNode;
+        }
+        size++;
+    }
+
+    /** 删除并返回头节点的值 */
+    public int removeFirst() {
+        if (head == null) {
+            throw new RuntimeException("链表为空");
+        }
+        int value = head.value;
+        head = head.next;
+        if (head == null) {
+            tail = null;
+        }
+        size--;
+        return value;
+    }
+
+    /** 删除并返回尾节点的值（单链表需要找到尾节点的前驱，O(n)） */
+    public int removeLast() {
+        if (head == null) {
+            throw new RuntimeException("链表为空");
+        }
+        if (head == tail) {
+            return removeFirst();
+        }
+        Node current = head;
+        while (current.next != tail) {
+            current = current.next;
+        }
+        int value = tail.value;
+        current.next = null;
+        tail = current;
+        size--;
+        return value;
+    }
+
+    /** 批量追加：先串好一条独立的链，再一次性接到尾部 */
+    public void appendAll(int[] values) {
+        if (values.length == 0) return;
+        Node first = new Node(values[0]);
+        Node last = first;
+        for (int i = 1; i < values.length; i++) {
+            last.next = new Node(values[i]);
+            last = last.next;
+        }
+        if (head == null) {
+            head = first;
+        } else {
+            tail.next = first;
+        }
+        tail = last;
+        size += values.length;
+    }
+
     /** 打印链表内容 */
     public void printList() {
         Node current = head;
@@ -84,18 +218,17 @@ public class LinkedListDS implements DataStructure {
 
     /** 获取链表长度 */
     public int size() {
-        int count = 0;
-        Node current = head;
-        while (current != null) {
-            count++;
-            current = current.next;
-        }
-        return count;
+        return size;
     }
 
     /** 获取头节点（方便可视化使用） */
     public Node getHead() {
         return head;
     }
+
+    /** 获取尾节点 */
+    public Node getTail() {
+        return tail;
+    }
 }
 
@@ -0,0 +1,317 @@
+package org.datastructure;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 堆外顺序表：数据存放在分块的直接内存 (direct ByteBuffer) 中
+ * 堆上只保留块引用和一个固定大小的查找缓冲区，GC 不再扫描数据本身
+ * 使用完毕后应调用 close() 立即释放堆外内存，之后任何访问都抛出 IllegalStateException
+ */
+public class OffHeapArrayListDS implements DataStructure, AutoCloseable {
+    private static final int DEFAULT_CHUNK_SHIFT = 20; // 每块 2^20 个 int（4MB）
+    private static final int SCRATCH_SIZE = 4096;      // 查找时每次搬到堆上的元素数
+
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int chunkMask;
+
+    private ByteBuffer[] chunks = new ByteBuffer[0]; // 原始直接内存块（释放用）
+    private IntBuffer[] views = new IntBuffer[0];    // 对应的 int 视图（批量读取用）
+    private int chunkCount;
+    private long capacity;
+    private int size;
+    private boolean closed;
+
+    private final int[] scratch = new int[SCRATCH_SIZE];
+
+    public OffHeapArrayListDS() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /** @param chunkShift 每块容量为 2^chunkShift 个 int */
+    public OffHeapArrayListDS(int chunkShift) {
+        if (chunkShift < 4 || chunkShift > 28) {
+            throw new IllegalArgumentException("chunkShift 需在 [4, 28] 之间");
+        }
+        this.chunkShift = chunkShift;
+        this.chunkSize = 1 << chunkShift;
+        this.chunkMask = chunkSize - 1;
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        ensureOpen();
+        ensureCapacity(size + 1);
+        setRaw(size++, value);
+    }
+
+    @Override
+    public void delete(int value) {
+        // 删除第一个匹配的值
+        int index = indexOf(value);
+        if (index >= 0) {
+            removeAt(index);
+        }
+    }
+
+    @Override
+    public boolean search(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    @Override
+    public void insertAll(int[] values) {
+        addAll(values);
+    }
+
+    /** 批量查找：对数据只扫描一遍，每次搬到查找缓冲区的一段对所有未命中的查询复用 */
+    @Override
+    public BitSet searchAll(int[] values) {
+        ensureOpen();
+        BatchOps.KeyHits hits = new BatchOps.KeyHits(values);
+        int base = 0;
+        while (base < size && !hits.isComplete()) {
+            int c = base >>> chunkShift;
+            int off = base & chunkMask;
+            int len = Math.min(SCRATCH_SIZE, Math.min(size - base, chunkSize - off));
+            views[c].get(off, scratch, 0, len);
+            hits.scan(scratch, 0, len);
+            base += len;
+        }
+        return hits.found();
+    }
+
+    @Override
+    public IntStream stream() {
+        ensureOpen();
+        return StreamSupport.intStream(new IndexSpliterator(this::get, 0, size,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // ================== 扩展方法 ==================
+
+    /** 获取指定下标元素 */
+    public int get(int index) {
+        ensureOpen();
+        checkIndex(index);
+        return chunks[index >>> chunkShift].getInt((index & chunkMask) << 2);
+    }
+
+    /** 修改指定下标元素 */
+    public void set(int index, int value) {
+        ensureOpen();
+        checkIndex(index);
+        setRaw(index, value);
+    }
+
+    /** 在指定位置插入，后续元素逐块右移 */
+    public void insertAt(int index, int value) {
+        ensureOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("下标越界");
+        }
+        ensureCapacity(size + 1);
+
+        int carry = value;
+        int pos = index;
+        while (true) {
+            int c = pos >>> chunkShift;
+            int off = pos & chunkMask;
+            int chunkStart = c << chunkShift;
+            int used = Math.min(size, chunkStart + chunkSize) - pos; // 本块内 pos 之后的元素数
+            ByteBuffer b = chunks[c];
+            if (off + used == chunkSize) {
+                // 本块已满：最后一个元素溢出到下一块的开头
+                int out = b.getInt((chunkSize - 1) << 2);
+                b.put((off + 1) << 2, b, off << 2, (used - 1) << 2);
+                b.putInt(off << 2, carry);
+                carry = out;
+                pos = chunkStart + chunkSize;
+            } else {
+                b.put((off + 1) << 2, b, off << 2, used << 2);
+                b.putInt(off << 2, carry);
+                break;
+            }
+        }
+        size++;
+    }
+
+    /** 删除指定下标元素，返回被删除的值 */
+    public int removeAt(int index) {
+        ensureOpen();
+        checkIndex(index);
+        int old = get(index);
+        int last = size - 1;
+        int pos = index;
+        while (true) {
+            int c = pos >>> chunkShift;
+            int off = pos & chunkMask;
+            int chunkLast = Math.min(last, (c << chunkShift) + chunkMask);
+            ByteBuffer b = chunks[c];
+            b.put(off << 2, b, (off + 1) << 2, (chunkLast - pos) << 2);
+            if (chunkLast == last) break;
+            // 从下一块的开头借一个元素补到本块末尾
+            b.putInt(chunkMask << 2, chunks[c + 1].getInt(0));
+            pos = (c + 1) << chunkShift;
+        }
+        size--;
+        return old;
+    }
+
+    /** 返回第一个匹配值的下标，不存在返回 -1 */
+    public int indexOf(int value) {
+        ensureOpen();
+        int base = 0;
+        while (base < size) {
+            int c = base >>> chunkShift;
+            int off = base & chunkMask;
+            int len = Math.min(SCRATCH_SIZE, Math.min(size - base, chunkSize - off));
+            views[c].get(off, scratch, 0, len);
+            int hit = SearchEngine.indexOf(scratch, 0, len, value);
+            if (hit >= 0) return base + hit;
+            base += len;
+        }
+        return -1;
+    }
+
+    /** 批量追加到末尾 */
+    public void addAll(int[] values) {
+        ensureOpen();
+        ensureCapacity((long) size + values.length);
+        int from = 0;
+        while (from < values.length) {
+            int c = size >>> chunkShift;
+            int off = size & chunkMask;
+            int len = Math.min(values.length - from, chunkSize - off);
+            views[c].put(off, values, from, len);
+            from += len;
+            size += len;
+        }
+    }
+
+    /** 获取当前大小 */
+    public int size() {
+        return size;
+    }
+
+    /** 当前已分配的堆外字节数 */
+    public long offHeapBytes() {
+        return capacity << 2;
+    }
+
+    /** 清空并释放所有堆外内存块，之后仍可继续使用 */
+    public void clear() {
+        ensureOpen();
+        freeChunks();
+        size = 0;
+    }
+
+    /** 立即释放堆外内存，之后不可再使用；重复调用无效果 */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        freeChunks();
+        size = 0;
+    }
+
+    /** close() 是否能立即归还内存；为 false 时只能等待 GC 回收 ByteBuffer */
+    public static boolean isExplicitFreeAvailable() {
+        return DirectMemory.INVOKE_CLEANER != null;
+    }
+
+    // ================== 内部方法 ==================
+
+    private void setRaw(int index, int value) {
+        chunks[index >>> chunkShift].putInt((index & chunkMask) << 2, value);
+    }
+
+    private void ensureCapacity(long minCapacity) {
+        if (minCapacity > Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("顺序表容量溢出");
+        }
+        while (capacity < minCapacity) {
+            if (chunkCount == chunks.length) {
+                int n = Math.max(4, chunkCount * 2);
+                chunks = Arrays.copyOf(chunks, n);
+                views = Arrays.copyOf(views, n);
+            }
+            ByteBuffer b = ByteBuffer.allocateDirect(chunkSize << 2).order(ByteOrder.nativeOrder());
+            chunks[chunkCount] = b;
+            views[chunkCount] = b.asIntBuffer();
+            chunkCount++;
+            capacity += chunkSize;
+        }
+    }
+
+    /** 先摘下所有块引用再逐块释放，释放后不会再有代码读到这些内存 */
+    private void freeChunks() {
+        ByteBuffer[] freed = chunks;
+        int n = chunkCount;
+        chunks = new ByteBuffer[0];
+        views = new IntBuffer[0];
+        chunkCount = 0;
+        capacity = 0;
+        for (int i = 0; i < n; i++) {
+            DirectMemory.free(freed[i]);
+            freed[i] = null;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("下标越界");
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("顺序表已关闭");
+        }
+    }
+
+    /**
+     * 直接内存释放工具：类加载时按名字查找一次 Unsafe.invokeCleaner 并绑定成 MethodHandle，
+     * 编译期不引用 sun.misc；查找失败（模块不可用等）时 free 不做任何事，内存由 GC 回收
+     */
+    private static final class DirectMemory {
+        static final MethodHandle INVOKE_CLEANER = lookupCleaner();
+
+        static void free(ByteBuffer buffer) {
+            if (INVOKE_CLEANER == null || buffer == null) return;
+            try {
+                INVOKE_CLEANER.invokeExact(buffer);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("释放直接内存失败", t);
+            }
+        }
+
+        private static MethodHandle lookupCleaner() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field f = unsafeClass.getDeclaredField("theUnsafe");
+                f.setAccessible(true);
+                return MethodHandles.lookup()
+                        .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                        .bindTo(f.get(null));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package org.datastructure;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 数组池 AVL 树（结构数组 SoA 布局）
+ * 节点字段分别存放在 key[]、height[]、left[]、right[] 四个平行数组中，
+ * 每个键约 13 字节，没有逐节点的 GC 对象；删除的槽位经 left[] 串成空闲链表复用
+ * 下标 0 是哨兵 NIL，其高度恒为 0，省去大量判空
+ */
+public class PooledAVLTreeDS implements DataStructure {
+    private static final int NIL = 0;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_DEPTH = 64; // AVL 高度不超过 1.44·log2(n)，64 足够
+
+    private int[] key;
+    private byte[] height;
+    private int[] left;
+    private int[] right;
+
+    private int root = NIL;
+    private int free = NIL; // 空闲链表头
+    private int used = 1;   // 已使用过的最高槽位 + 1（槽位 0 为哨兵）
+    private int size;
+
+    private final int[] path = new int[MAX_DEPTH]; // 查找路径，代替父指针
+
+    public PooledAVLTreeDS() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PooledAVLTreeDS(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("容量不能为负数");
+        }
+        int n = initialCapacity + 1;
+        key = new int[n];
+        height = new byte[n];
+        left = new int[n];
+        right = new int[n];
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        int depth = 0;
+        int n = root;
+        while (n != NIL) {
+            path[depth++] = n;
+            if (value < key[n]) {
+                n = left[n];
+            } else if (value > key[n]) {
+                n = right[n];
+            } else {
+                return; // 不允许重复值
+            }
+        }
+
+        int x = allocate(value);
+        if (depth == 0) {
+            root = x;
+        } else {
+            int p = path[depth - 1];
+            if (value < key[p]) {
+                left[p] = x;
+            } else {
+                right[p] = x;
+            }
+        }
+        size++;
+        retrace(depth - 1);
+    }
+
+    @Override
+    public void delete(int value) {
+        int depth = 0;
+        int n = root;
+        while (n != NIL && key[n] != value) {
+            path[depth++] = n;
+            n = value < key[n] ? left[n] : right[n];
+        }
+        if (n == NIL) return;
+        path[depth++] = n;
+
+        if (left[n] != NIL && right[n] != NIL) {
+            // 两个子节点：沿右子树找后继，用后继的键替换，转化为删除后继
+            int m = right[n];
+            while (m != NIL) {
+                path[depth++] = m;
+                m = left[m];
+            }
+            key[n] = key[path[depth - 1]];
+        }
+
+        int target = path[--depth];
+        int child = left[target] != NIL ? left[target] : right[target];
+        replaceChild(depth - 1, target, child);
+        release(target);
+        size--;
+        retrace(depth - 1);
+    }
+
+    @Override
+    public boolean search(int value) {
+        int n = root;
+        while (n != NIL) {
+            int k = key[n];
+            if (value == k) return true;
+            n = value < k ? left[n] : right[n];
+        }
+        return false;
+    }
+
+    /** 升序流；节点以数组下标表示，沿显式下标栈中序遍历，按批拆分 */
+    @Override
+    public IntStream stream() {
+        PrimitiveIterator.OfInt it = new PrimitiveIterator.OfInt() {
+            private final int[] stack = new int[MAX_DEPTH];
+            private int sp;
+
+            {
+                pushLeft(root);
+            }
+
+            private void pushLeft(int n) {
+                while (n != NIL) {
+                    stack[sp++] = n;
+                    n = left[n];
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return sp > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (sp == 0) throw new NoSuchElementException();
+                int n = stack[--sp];
+                pushLeft(right[n]);
+                return key[n];
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliterator(it, size,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    /** 树高（空树为 0） */
+    public int height() {
+        return height[root];
+    }
+
+    public void clear() {
+        root = NIL;
+        free = NIL;
+        used = 1;
+        size = 0;
+    }
+
+    /** 把数组收缩到刚好容纳当前节点（会先整理空闲槽位） */
+    public void trimToSize() {
+        if (free != NIL) {
+            // 有空闲槽位时按中序重新编号，把节点压到数组前部
+            int[] keys = new int[size];
+            int[] stack = new int[MAX_DEPTH];
+            int sp = 0, i = 0, n = root;
+            while (n != NIL || sp > 0) {
+                while (n != NIL) {
+                    stack[sp++] = n;
+                    n = left[n];
+                }
+                n = stack[--sp];
+                keys[i++] = key[n];
+                n = right[n];
+            }
+            clear();
+            size = keys.length;
+            root = buildBalanced(keys, 0, keys.length);
+        }
+        key = Arrays.copyOf(key, used);
+        height = Arrays.copyOf(height, used);
+        left = Arrays.copyOf(left, used);
+        right = Arrays.copyOf(right, used);
+    }
+
+    /** 由升序键 [lo, hi) 构建平衡子树，返回子树根 */
+    private int buildBalanced(int[] keys, int lo, int hi) {
+        if (lo >= hi) return NIL;
+        int mid = (lo + hi) >>> 1;
+        int n = allocate(keys[mid]);
+        left[n] = buildBalanced(keys, lo, mid);
+        right[n] = buildBalanced(keys, mid + 1, hi);
+        updateHeight(n);
+        return n;
+    }
+
+    // ================== 平衡维护 ==================
+
+    /** 从 path[i] 向上回溯，子树高度不变时停止 */
+    private void retrace(int i) {
+        for (; i >= 0; i--) {
+            int node = path[i];
+            int oldHeight = height[node];
+            int subtree = rebalance(node);
+            if (subtree != node) {
+                replaceChild(i - 1, node, subtree);
+            }
+            if (height[subtree] == oldHeight) {
+                break;
+            }
+        }
+    }
+
+    /** 更新高度，必要时旋转，返回该位置上新的子树根 */
+    private int rebalance(int n) {
+        updateHeight(n);
+        int balance = height[left[n]] - height[right[n]];
+        if (balance > 1) {
+            int l = left[n];
+            if (height[left[l]] < height[right[l]]) {
+                left[n] = leftRotate(l);
+            }
+            return rightRotate(n);
+        }
+        if (balance < -1) {
+            int r = right[n];
+            if (height[right[r]] < height[left[r]]) {
+                right[n] = rightRotate(r);
+            }
+            return leftRotate(n);
+        }
+        return n;
+    }
+
+    private int rightRotate(int y) {
+        int x = left[y];
+        left[y] = right[x];
+        right[x] = y;
+        updateHeight(y);
+        updateHeight(x);
+        return x;
+    }
+
+    private int leftRotate(int x) {
+        int y = right[x];
+        right[x] = left[y];
+        left[y] = x;
+        updateHeight(x);
+        updateHeight(y);
+        return y;
+    }
+
+    private void updateHeight(int n) {
+        height[n] = (byte) (1 + Math.max(height[left[n]], height[right[n]]));
+    }
+
+    /** 把 path[parentIndex] 指向 oldChild 的链接改为 newChild（parentIndex < 0 时替换根） */
+    private void replaceChild(int parentIndex, int oldChild, int newChild) {
+        if (parentIndex < 0) {
+            root = newChild;
+            return;
+        }
+        int p = path[parentIndex];
+        if (left[p] == oldChild) {
+            left[p] = newChild;
+        } else {
+            right[p] = newChild;
+        }
+    }
+
+    // ================== 槽位管理 ==================
+
+    private int allocate(int value) {
+        int n;
+        if (free != NIL) {
+            n = free;
+            free = left[n];
+        } else {
+            if (used == key.length) {
+                int newCapacity = Math.max(DEFAULT_CAPACITY, key.length + (key.length >> 1));
+                key = Arrays.copyOf(key, newCapacity);
+                height = Arrays.copyOf(height, newCapacity);
+                left = Arrays.copyOf(left, newCapacity);
+                right = Arrays.copyOf(right, newCapacity);
+            }
+            n = used++;
+        }
+        key[n] = value;
+        height[n] = 1;
+        left[n] = NIL;
+        right[n] = NIL;
+        return n;
+    }
+
+    private void release(int n) {
+        height[n] = 0;
+        right[n] = NIL;
+        left[n] = free;
+        free = n;
+    }
+}
@@ -0,0 +1,314 @@
+package org.datastructure;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 红黑树实现（非递归，节点带父指针）
+ * 插入最多 2 次旋转，删除最多 3 次旋转，其余修复只是改颜色
+ * 与 AVL 相比平衡更松（高度上限约 2log n），但写操作的旋转次数为 O(1)
+ */
+public class RedBlackTreeDS implements DataStructure {
+    private static final boolean RED = false;
+    private static final boolean BLACK = true;
+
+    // ================== 节点类 ==================
+    static class Node {
+        int value;
+        boolean color = BLACK;
+        Node left;
+        Node right;
+        Node parent;
+
+        Node(int value, Node parent) {
+            this.value = value;
+            this.parent = parent;
+        }
+    }
+
+    private Node root;
+    private int size;
+    private long rotations; // 累计旋转次数
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        if (root == null) {
+            root = new Node(value, null);
+            size = 1;
+            return;
+        }
+        Node parent = root;
+        while (true) {
+            if (value == parent.value) return; // 不允许重复
+            Node next = value < parent.value ? parent.left : parent.right;
+            if (next == null) break;
+            parent = next;
+        }
+        Node node = new Node(value, parent);
+        if (value < parent.value) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        size++;
+        fixAfterInsertion(node);
+    }
+
+    @Override
+    public void delete(int value) {
+        Node p = findNode(value);
+        if (p == null) return;
+        size--;
+
+        // 有两个孩子时把后继的值搬上来，转为删除后继（至多一个孩子）
+        if (p.left != null && p.right != null) {
+            Node s = p.right;
+            while (s.left != null) {
+                s = s.left;
+            }
+            p.value = s.value;
+            p = s;
+        }
+
+        Node replacement = p.left != null ? p.left : p.right;
+        if (replacement != null) {
+            replacement.parent = p.parent;
+            replaceChild(p.parent, p, replacement);
+            p.left = p.right = p.parent = null;
+            if (p.color == BLACK) {
+                fixAfterDeletion(replacement);
+            }
+        } else if (p.parent == null) {
+            root = null;
+        } else {
+            // 没有孩子：先以自身充当“双黑”位置修复，再摘下
+            if (p.color == BLACK) {
+                fixAfterDeletion(p);
+            }
+            if (p.parent != null) {
+                replaceChild(p.parent, p, null);
+                p.parent = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean search(int value) {
+        return findNode(value) != null;
+    }
+
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeSpliterator.inOrder(root, size, ACCESS,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /** 供 TreeSpliterator 使用 */
+    private static final TreeSpliterator.Access<Node> ACCESS =
+            TreeSpliterator.Access.of(n -> n.left, n -> n.right, n -> n.value);
+
+    // ================== 平衡修复 ==================
+
+    private void fixAfterInsertion(Node x) {
+        x.color = RED;
+        while (x != root && colorOf(parentOf(x)) == RED) {
+            Node parent = parentOf(x);
+            Node grand = parentOf(parent);
+            if (parent == leftOf(grand)) {
+                Node uncle = rightOf(grand);
+                if (colorOf(uncle) == RED) {
+                    // 叔叔为红：只改颜色，问题上移两层
+                    setColor(parent, BLACK);
+                    setColor(uncle, BLACK);
+                    setColor(grand, RED);
+                    x = grand;
+                } else {
+                    if (x == rightOf(parent)) {
+                        x = parent;
+                        rotateLeft(x);
+                    }
+                    setColor(parentOf(x), BLACK);
+                    setColor(parentOf(parentOf(x)), RED);
+                    rotateRight(parentOf(parentOf(x)));
+                }
+            } else {
+                Node uncle = leftOf(grand);
+                if (colorOf(uncle) == RED) {
+                    setColor(parent, BLACK);
+                    setColor(uncle, BLACK);
+                    setColor(grand, RED);
+                    x = grand;
+                } else {
+                    if (x == leftOf(parent)) {
+                        x = parent;
+                        rotateRight(x);
+                    }
+                    setColor(parentOf(x), BLACK);
+                    setColor(parentOf(parentOf(x)), RED);
+                    rotateLeft(parentOf(parentOf(x)));
+                }
+            }
+        }
+        root.color = BLACK;
+    }
+
+    private void fixAfterDeletion(Node x) {
+        while (x != root && colorOf(x) == BLACK) {
+            if (x == leftOf(parentOf(x))) {
+                Node sib = rightOf(parentOf(x));
+                if (colorOf(sib) == RED) {
+                    setColor(sib, BLACK);
+                    setColor(parentOf(x), RED);
+                    rotateLeft(parentOf(x));
+                    sib = rightOf(parentOf(x));
+                }
+                if (colorOf(leftOf(sib)) == BLACK && colorOf(rightOf(sib)) == BLACK) {
+                    // 兄弟的孩子都为黑：兄弟变红，问题上移一层
+                    setColor(sib, RED);
+                    x = parentOf(x);
+                } else {
+                    if (colorOf(rightOf(sib)) == BLACK) {
+                        setColor(leftOf(sib), BLACK);
+                        setColor(sib, RED);
+                        rotateRight(sib);
+                        sib = rightOf(parentOf(x));
+                    }
+                    setColor(sib, colorOf(parentOf(x)));
+                    setColor(parentOf(x), BLACK);
+                    setColor(rightOf(sib), BLACK);
+                    rotateLeft(parentOf(x));
+                    x = root;
+                }
+            } else {
+                Node sib = leftOf(parentOf(x));
+                if (colorOf(sib) == RED) {
+                    setColor(sib, BLACK);
+                    setColor(parentOf(x), RED);
+                    rotateRight(parentOf(x));
+                    sib = leftOf(parentOf(x));
+                }
+                if (colorOf(rightOf(sib)) == BLACK && colorOf(leftOf(sib)) == BLACK) {
+                    setColor(sib, RED);
+                    x = parentOf(x);
+                } else {
+                    if (colorOf(leftOf(sib)) == BLACK) {
+                        setColor(rightOf(sib), BLACK);
+                        setColor(sib, RED);
+                        rotateLeft(sib);
+                        sib = leftOf(parentOf(x));
+                    }
+                    setColor(sib, colorOf(parentOf(x)));
+                    setColor(parentOf(x), BLACK);
+                    setColor(leftOf(sib), BLACK);
+                    rotateRight(parentOf(x));
+                    x = root;
+                }
+            }
+        }
+        setColor(x, BLACK);
+    }
+
+    // 以下辅助方法把 null 视为黑色叶子，省去修复过程中的判空
+
+    private static boolean colorOf(Node node) {
+        return node == null ? BLACK : node.color;
+    }
+
+    private static Node parentOf(Node node) {
+        return node == null ? null : node.parent;
+    }
+
+    private static void setColor(Node node, boolean color) {
+        if (node != null) node.color = color;
+    }
+
+    private static Node leftOf(Node node) {
+        return node == null ? null : node.left;
+    }
+
+    private static Node rightOf(Node node) {
+        return node == null ? null : node.right;
+    }
+
+    private void rotateLeft(Node x) {
+        if (x == null) return;
+        Node y = x.right;
+        x.right = y.left;
+        if (y.left != null) y.left.parent = x;
+        y.parent = x.parent;
+        replaceChild(x.parent, x, y);
+        y.left = x;
+        x.parent = y;
+        rotations++;
+    }
+
+    private void rotateRight(Node y) {
+        if (y == null) return;
+        Node x = y.left;
+        y.left = x.right;
+        if (x.right != null) x.right.parent = y;
+        x.parent = y.parent;
+        replaceChild(y.parent, y, x);
+        x.right = y;
+        y.parent = x;
+        rotations++;
+    }
+
+    /** 把 parent 指向 oldChild 的链接改为 newChild（parent 为 null 时替换根） */
+    private void replaceChild(Node parent, Node oldChild, Node newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private Node findNode(int value) {
+        Node current = root;
+        while (current != null) {
+            if (value == current.value) return current;
+            current = value < current.value ? current.left : current.right;
+        }
+        return null;
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    /** 自创建以来的累计旋转次数 */
+    public long rotations() {
+        return rotations;
+    }
+
+    /** 树高（层序遍历，空树为 0） */
+    public int height() {
+        if (root == null) return 0;
+        Deque<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+        int height = 0;
+        while (!queue.isEmpty()) {
+            height++;
+            for (int i = queue.size(); i > 0; i--) {
+                Node node = queue.poll();
+                if (node.left != null) queue.add(node.left);
+                if (node.right != null) queue.add(node.right);
+            }
+        }
+        return height;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+}
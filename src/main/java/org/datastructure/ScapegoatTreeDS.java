@@ -0,0 +1,202 @@
+package org.datastructure;
+
+import org.datastructure.BSTreeDS.Node;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 替罪羊树：与 BSTreeDS 使用同一种节点（只有值和左右孩子），节点上不存任何平衡信息
+ * 插入后若新节点深度超过 log_{1/α}(n)，沿路径向上找到第一个失衡（某个孩子子树大小超过 α 倍）的祖先，
+ * 用 DSW 算法把这棵子树在线性时间内重建为完全平衡；
+ * 删除直接摘除节点、不做调整，节点数降到历史最大值的 α 倍以下时再整体重建
+ * 各操作摊还 O(log n)
+ */
+public class ScapegoatTreeDS implements DataStructure {
+    public static final double DEFAULT_ALPHA = 2.0 / 3;
+
+    private final double alpha;
+    private final double logInverseAlpha;
+    private Node root;
+    private int size;
+    private int maxSize; // 上次整体重建以来的最大节点数
+
+    // 查找路径缓存，避免每次操作分配
+    private Node[] path = new Node[64];
+
+    public ScapegoatTreeDS() {
+        this(DEFAULT_ALPHA);
+    }
+
+    /** @param alpha 平衡因子，需在 (0.5, 1) 之间；越小树越矮，重建越频繁 */
+    public ScapegoatTreeDS(double alpha) {
+        if (!(alpha > 0.5 && alpha < 1)) {
+            throw new IllegalArgumentException("alpha 需在 (0.5, 1) 之间");
+        }
+        this.alpha = alpha;
+        this.logInverseAlpha = Math.log(1 / alpha);
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        int depth = 0;
+        Node current = root;
+        while (current != null) {
+            if (value == current.value) return; // 不允许重复
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+            }
+            path[depth++] = current;
+            current = value < current.value ? current.left : current.right;
+        }
+        Node node = new Node(value);
+        if (depth == 0) {
+            root = node;
+        } else if (value < path[depth - 1].value) {
+            path[depth - 1].left = node;
+        } else {
+            path[depth - 1].right = node;
+        }
+        size++;
+        maxSize = Math.max(maxSize, size);
+
+        if (depth > Math.log(size) / logInverseAlpha) {
+            rebuildScapegoat(node, depth);
+        }
+    }
+
+    @Override
+    public void delete(int value) {
+        // 与 BSTreeDS 相同的删除，不做任何调整
+        Node parent = null;
+        Node current = root;
+        while (current != null && current.value != value) {
+            parent = current;
+            current = value < current.value ? current.left : current.right;
+        }
+        if (current == null) return;
+        size--;
+
+        if (current.left != null && current.right != null) {
+            Node minParent = current;
+            Node min = current.right;
+            while (min.left != null) {
+                minParent = min;
+                min = min.left;
+            }
+            current.value = min.value;
+            parent = minParent;
+            current = min;
+        }
+
+        Node child = current.left != null ? current.left : current.right;
+        if (parent == null) {
+            root = child;
+        } else if (parent.left == current) {
+            parent.left = child;
+        } else {
+            parent.right = child;
+        }
+
+        // 删除累积到一定程度后整体重建
+        if (size < alpha * maxSize) {
+            root = BSTreeDS.rebalance(root);
+            maxSize = size;
+        }
+    }
+
+    @Override
+    public boolean search(int value) {
+        Node current = root;
+        while (current != null) {
+            if (value == current.value) return true;
+            current = value < current.value ? current.left : current.right;
+        }
+        return false;
+    }
+
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeSpliterator.inOrder(root, size, BSTreeDS.ACCESS,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    // ================== 重建 ==================
+
+    /**
+     * node 为新插入的节点，其祖先依次存放在 path[0..depth) 中
+     * 自下而上累计子树大小，找到第一个孩子子树大小超过 α 倍的祖先并重建其子树
+     */
+    private void rebuildScapegoat(Node node, int depth) {
+        Node child = node;
+        int childSize = 1;
+        for (int i = depth - 1; i >= 0; i--) {
+            Node ancestor = path[i];
+            Node sibling = ancestor.left == child ? ancestor.right : ancestor.left;
+            int total = childSize + 1 + count(sibling);
+            if (childSize > alpha * total) {
+                Node rebuilt = BSTreeDS.rebalance(ancestor);
+                if (i == 0) {
+                    root = rebuilt;
+                } else if (path[i - 1].left == ancestor) {
+                    path[i - 1].left = rebuilt;
+                } else {
+                    path[i - 1].right = rebuilt;
+                }
+                return;
+            }
+            child = ancestor;
+            childSize = total;
+        }
+    }
+
+    /** 子树节点数（节点不记录大小，只能遍历计数） */
+    private static int count(Node node) {
+        if (node == null) return 0;
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        int n = 0;
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            n++;
+            if (current.left != null) stack.push(current.left);
+            if (current.right != null) stack.push(current.right);
+        }
+        return n;
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    /** 树高（层序遍历，空树为 0） */
+    public int height() {
+        if (root == null) return 0;
+        Deque<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+        int height = 0;
+        while (!queue.isEmpty()) {
+            height++;
+            for (int i = queue.size(); i > 0; i--) {
+                Node node = queue.poll();
+                if (node.left != null) queue.add(node.left);
+                if (node.right != null) queue.add(node.right);
+            }
+        }
+        return height;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+        maxSize = 0;
+    }
+}
@@ -0,0 +1,77 @@
+package org.datastructure;
+
+/**
+ * 线性查找引擎：在 SIMD 向量实现与标量实现之间切换
+ * 默认在向量模块可用时使用 SIMD，可通过系统属性 -Ddatastructure.search=scalar 强制标量
+ */
+public final class SearchEngine {
+
+    public enum Mode { SCALAR, VECTOR }
+
+    private static final IntSearcher SCALAR = (a, from, to, key) -> {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) return i;
+        }
+        return -1;
+    };
+
+    private static final IntSearcher VECTOR = loadVector();
+
+    private static volatile IntSearcher current;
+    private static volatile Mode mode;
+
+    static {
+        String prop = System.getProperty("datastructure.search", "");
+        if ("scalar".equalsIgnoreCase(prop) || VECTOR == null) {
+            setMode(Mode.SCALAR);
+        } else {
+            setMode(Mode.VECTOR);
+        }
+    }
+
+    private SearchEngine() {
+    }
+
+    /** 在 a[from, to) 中查找 key，返回第一个匹配的下标，不存在返回 -1 */
+    public static int indexOf(int[] a, int from, int to, int key) {
+        return current.indexOf(a, from, to, key);
+    }
+
+    /** 切换查找模式；向量模块不可用时选择 VECTOR 会抛出异常 */
+    public static void setMode(Mode newMode) {
+        if (newMode == Mode.VECTOR) {
+            if (VECTOR == null) {
+                throw new IllegalStateException("jdk.incubator.vector 不可用，请添加 --add-modules jdk.incubator.vector");
+            }
+            current = VECTOR;
+        } else {
+            current = SCALAR;
+        }
+        mode = newMode;
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    public static boolean isVectorAvailable() {
+        return VECTOR != null;
+    }
+
+    /** 当前向量通道数，不可用时返回 1 */
+    public static int vectorLanes() {
+        return VECTOR == null ? 1 : VectorIntSearcher.lanes();
+    }
+
+    /** 尝试加载向量实现，并做一次探测调用确保模块真正可用 */
+    private static IntSearcher loadVector() {
+        try {
+            IntSearcher searcher = new VectorIntSearcher();
+            int[] probe = new int[64];
+            probe[37] = 1;
+            return searcher.indexOf(probe, 0, probe.length, 1) == 37 ? searcher : null;
+        } catch (LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.datastructure;
+
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 伸展树实现（自顶向下伸展，非递归，无父指针）
+ * 每次查找、插入、删除都把目标键（或查找路径上最后一个节点）旋转到根，
+ * 频繁访问的键始终靠近根，访问分布越偏斜，平均查找深度越小；单次操作摊还 O(log n)
+ * 注意 search 也会修改树的形状
+ */
+public class SplayTreeDS implements DataStructure {
+
+    // ================== 节点类 ==================
+    static class Node {
+        int value;
+        Node left;
+        Node right;
+
+        Node(int value) {
+            this.value = value;
+        }
+    }
+
+    private Node root;
+    private int size;
+    private final Node header = new Node(0); // 伸展时临时挂接左右两棵树的哨兵
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        if (root == null) {
+            root = new Node(value);
+            size = 1;
+            return;
+        }
+        root = splay(root, value);
+        if (root.value == value) return; // 不允许重复
+        Node node = new Node(value);
+        if (value < root.value) {
+            node.left = root.left;
+            node.right = root;
+            root.left = null;
+        } else {
+            node.right = root.right;
+            node.left = root;
+            root.right = null;
+        }
+        root = node;
+        size++;
+    }
+
+    @Override
+    public void delete(int value) {
+        if (root == null) return;
+        root = splay(root, value);
+        if (root.value != value) return;
+        if (root.left == null) {
+            root = root.right;
+        } else {
+            // 左子树中最大的键伸展到左子树的根，它没有右孩子，正好接上原右子树
+            Node right = root.right;
+            root = splay(root.left, value);
+            root.right = right;
+        }
+        size--;
+    }
+
+    @Override
+    public boolean search(int value) {
+        if (root == null) return false;
+        root = splay(root, value);
+        return root.value == value;
+    }
+
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeSpliterator.inOrder(root, size, ACCESS,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /** 供 TreeSpliterator 使用 */
+    private static final TreeSpliterator.Access<Node> ACCESS =
+            TreeSpliterator.Access.of(n -> n.left, n -> n.right, n -> n.value);
+
+    // ================== 伸展 ==================
+
+    /**
+     * 自顶向下伸展：沿查找路径把节点分别挂到左树（都小于 value）和右树（都大于 value），
+     * 一字形的两步先做一次旋转；最后把左右树接到停下的节点两侧，返回新根
+     */
+    private Node splay(Node t, int value) {
+        header.left = header.right = null;
+        Node l = header; // 左树的最右节点
+        Node r = header; // 右树的最左节点
+        while (true) {
+            if (value < t.value) {
+                if (t.left == null) break;
+                if (value < t.left.value) {
+                    Node y = t.left;
+                    t.left = y.right;
+                    y.right = t;
+                    t = y;
+                    if (t.left == null) break;
+                }
+                r.left = t;
+                r = t;
+                t = t.left;
+            } else if (value > t.value) {
+                if (t.right == null) break;
+                if (value > t.right.value) {
+                    Node y = t.right;
+                    t.right = y.left;
+                    y.left = t;
+                    t = y;
+                    if (t.right == null) break;
+                }
+                l.right = t;
+                l = t;
+                t = t.right;
+            } else {
+                break;
+            }
+        }
+        l.right = t.left;
+        r.left = t.right;
+        t.left = header.right;
+        t.right = header.left;
+        return t;
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    /** 查找 value 时访问的节点数（不伸展，不修改树） */
+    public int searchDepth(int value) {
+        int depth = 0;
+        for (Node current = root; current != null; ) {
+            depth++;
+            if (value == current.value) break;
+            current = value < current.value ? current.left : current.right;
+        }
+        return depth;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+}
@@ -1,9 +1,9 @@
 package org.datastructure;
 
-import java.util.ArrayList;
+import java.util.stream.IntStream;
 
 public class StackDS implements DataStructure {
-    private ArrayList<Integer> stack = new ArrayList<>();
+    private final IntStack stack = new IntStack();
 
     @Override
     public void insert(int value) {
@@ -20,15 +20,51 @@ public class StackDS implements DataStructure {
         return stack.contains(value);
     }
 
+    /** 从栈底到栈顶 */
+    @Override
+    public IntStream stream() {
+        return stack.stream();
+    }
+
+    /** 批量入栈 */
+    @Override
+    public void insertAll(int[] values) {
+        stack.pushAll(values);
+    }
+
+    /** delete 即出栈，批量删除一次弹出 values.length 个元素 */
+    @Override
+    public void deleteAll(int[] values) {
+        stack.popN(values.length);
+    }
+
     public void push(int value) {
-        stack.add(value);
+        stack.push(value);
     }
 
     public int pop() {
-        if (stack.isEmpty()) {
-            throw new RuntimeException("栈为空");
-        }
-        return stack.remove(stack.size() - 1);
+        return stack.pop();
     }
-}
 
+    public int peek() {
+        return stack.peek();
+    }
+
+    public int size() {
+        return stack.size();
+    }
+
+    public boolean isEmpty() {
+        return stack.isEmpty();
+    }
+
+    /** 批量入栈 */
+    public void pushAll(int[] values) {
+        stack.pushAll(values);
+    }
+
+    /** 连续出栈 n 个元素，下标 0 为原栈顶 */
+    public int[] popN(int n) {
+        return stack.popN(n);
+    }
+}
@@ -0,0 +1,228 @@
+package org.datastructure;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 树堆（Treap）实现（非递归）
+ * 键满足二叉查找树顺序，优先级满足大根堆顺序；优先级随机时期望高度 O(log n)
+ * 按频率模式下，优先级先比较访问次数、再比较随机数：
+ * 每次查找命中都给节点计数加一并向上旋转，热点键逐渐移到根附近
+ */
+public class TreapDS implements DataStructure {
+
+    // ================== 节点类 ==================
+    static class Node {
+        int value;
+        int hits;     // 访问次数（仅按频率模式使用）
+        int priority; // 随机优先级，访问次数相同时比较
+        Node left;
+        Node right;
+
+        Node(int value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    private final boolean byFrequency;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+    private int size;
+
+    // 查找路径缓存，避免每次操作分配
+    private Node[] path = new Node[64];
+
+    /** 随机优先级的普通树堆 */
+    public TreapDS() {
+        this(false);
+    }
+
+    /** @param byFrequency 为 true 时按访问频率调整优先级，热点键向根移动 */
+    public TreapDS(boolean byFrequency) {
+        this.byFrequency = byFrequency;
+    }
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        int depth = 0;
+        Node current = root;
+        while (current != null) {
+            if (value == current.value) return; // 不允许重复
+            depth = push(current, depth);
+            current = value < current.value ? current.left : current.right;
+        }
+        Node node = new Node(value, random.nextInt());
+        if (depth == 0) {
+            root = node;
+        } else if (value < path[depth - 1].value) {
+            path[depth - 1].left = node;
+        } else {
+            path[depth - 1].right = node;
+        }
+        size++;
+        siftUp(node, depth);
+    }
+
+    @Override
+    public void delete(int value) {
+        Node parent = null;
+        Node current = root;
+        while (current != null && current.value != value) {
+            parent = current;
+            current = value < current.value ? current.left : current.right;
+        }
+        if (current == null) return;
+        Node merged = merge(current.left, current.right);
+        if (parent == null) {
+            root = merged;
+        } else if (parent.left == current) {
+            parent.left = merged;
+        } else {
+            parent.right = merged;
+        }
+        size--;
+    }
+
+    @Override
+    public boolean search(int value) {
+        if (!byFrequency) {
+            for (Node current = root; current != null; ) {
+                if (value == current.value) return true;
+                current = value < current.value ? current.left : current.right;
+            }
+            return false;
+        }
+        int depth = 0;
+        Node current = root;
+        while (current != null) {
+            if (value == current.value) {
+                if (current.hits < Integer.MAX_VALUE) {
+                    current.hits++;
+                }
+                siftUp(current, depth);
+                return true;
+            }
+            depth = push(current, depth);
+            current = value < current.value ? current.left : current.right;
+        }
+        return false;
+    }
+
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeSpliterator.inOrder(root, size, ACCESS,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /** 供 TreeSpliterator 使用 */
+    private static final TreeSpliterator.Access<Node> ACCESS =
+            TreeSpliterator.Access.of(n -> n.left, n -> n.right, n -> n.value);
+
+    // ================== 堆序维护 ==================
+
+    /** a 的优先级是否高于 b */
+    private static boolean above(Node a, Node b) {
+        return a.hits != b.hits ? a.hits > b.hits : a.priority > b.priority;
+    }
+
+    /** node 的祖先依次存放在 path[0..depth) 中；优先级高于父节点时向上旋转 */
+    private void siftUp(Node node, int depth) {
+        while (depth > 0 && above(node, path[depth - 1])) {
+            Node parent = path[--depth];
+            if (parent.left == node) {
+                parent.left = node.right;
+                node.right = parent;
+            } else {
+                parent.right = node.left;
+                node.left = parent;
+            }
+            if (depth == 0) {
+                root = node;
+            } else if (path[depth - 1].left == parent) {
+                path[depth - 1].left = node;
+            } else {
+                path[depth - 1].right = node;
+            }
+        }
+    }
+
+    /** 合并两棵树堆（l 中的键都小于 r 中的键），沿 l 的右链与 r 的左链按优先级交错拼接 */
+    private static Node merge(Node l, Node r) {
+        Node result = null;
+        Node tail = null;          // 最后挂上的节点
+        boolean tailRight = false; // 剩余部分挂在 tail 的右侧还是左侧
+        while (l != null && r != null) {
+            Node next;
+            boolean nextRight;
+            if (above(l, r)) {
+                // 取 l 的根，剩余部分都大于它，挂在它的右侧
+                next = l;
+                l = l.right;
+                nextRight = true;
+            } else {
+                // 取 r 的根，剩余部分都小于它，挂在它的左侧
+                next = r;
+                r = r.left;
+                nextRight = false;
+            }
+            if (tail == null) {
+                result = next;
+            } else if (tailRight) {
+                tail.right = next;
+            } else {
+                tail.left = next;
+            }
+            tail = next;
+            tailRight = nextRight;
+        }
+        Node rest = l != null ? l : r;
+        if (tail == null) {
+            result = rest;
+        } else if (tailRight) {
+            tail.right = rest;
+        } else {
+            tail.left = rest;
+        }
+        return result;
+    }
+
+    private int push(Node node, int depth) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+        }
+        path[depth] = node;
+        return depth + 1;
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isByFrequency() {
+        return byFrequency;
+    }
+
+    /** 查找 value 时访问的节点数（不计数、不调整，不修改树） */
+    public int searchDepth(int value) {
+        int depth = 0;
+        for (Node current = root; current != null; ) {
+            depth++;
+            if (value == current.value) break;
+            current = value < current.value ? current.left : current.right;
+        }
+        return depth;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+}
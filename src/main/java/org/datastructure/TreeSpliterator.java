@@ -0,0 +1,257 @@
+package org.datastructure;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 按子树拆分的二叉树 Spliterator，支持中序与前序两种遍历顺序
+ * 待遍历部分表示为一个"单元"栈：每个单元是"一个可选的值 + 一棵子树"，
+ * 栈顶单元最先遍历。拆分时把栈顶一侧的单元交给前缀，只剩一个单元时按子树展开
+ *
+ * @param <N> 节点类型
+ */
+final class TreeSpliterator<N> implements Spliterator.OfInt {
+
+    /** 节点访问方式 */
+    interface Access<N> {
+        N left(N node);
+
+        N right(N node);
+
+        int value(N node);
+
+        /** 子树节点数，未知时返回 -1 */
+        int size(N node);
+
+        /** 由取左孩子、右孩子、键的函数构造，子树大小未知 */
+        static <N> Access<N> of(UnaryOperator<N> left, UnaryOperator<N> right, ToIntFunction<N> value) {
+            return of(left, right, value, node -> -1);
+        }
+
+        /** 由取左孩子、右孩子、键、子树大小的函数构造 */
+        static <N> Access<N> of(UnaryOperator<N> left, UnaryOperator<N> right,
+                                ToIntFunction<N> value, ToIntFunction<N> size) {
+            return new Functions<>(left, right, value, size);
+        }
+
+        /** 用 record 保存各函数：ACCESS 为静态常量时 JIT 可以把字段当作常量，直接内联对应的 lambda */
+        record Functions<N>(UnaryOperator<N> leftOf, UnaryOperator<N> rightOf,
+                            ToIntFunction<N> valueOf, ToIntFunction<N> sizeOf) implements Access<N> {
+            @Override
+            public N left(N node) {
+                return leftOf.apply(node);
+            }
+
+            @Override
+            public N right(N node) {
+                return rightOf.apply(node);
+            }
+
+            @Override
+            public int value(N node) {
+                return valueOf.applyAsInt(node);
+            }
+
+            @Override
+            public int size(N node) {
+                return sizeOf.applyAsInt(node);
+            }
+        }
+    }
+
+    private final Access<N> access;
+    private final boolean preOrder;
+    private final int baseCharacteristics; // 不含 SIZED/SUBSIZED
+
+    // 单元栈：下标 0 为栈底（最后遍历），sp - 1 为栈顶
+    private boolean[] hasValue = new boolean[8];
+    private int[] values = new int[8];
+    private Object[] subtrees = new Object[8];
+    private int sp;
+
+    private long est;
+    private boolean exact; // est 是否为精确值
+    private final boolean subSized; // 节点能给出子树大小，拆分后仍精确
+
+    private TreeSpliterator(Access<N> access, boolean preOrder, int characteristics,
+                            long est, boolean exact, boolean subSized) {
+        this.access = access;
+        this.preOrder = preOrder;
+        this.baseCharacteristics = characteristics & ~(SIZED | SUBSIZED);
+        this.est = est;
+        this.exact = exact;
+        this.subSized = subSized;
+    }
+
+    /**
+     * 中序遍历整棵树
+     *
+     * @param size 节点总数，未知时传 -1
+     */
+    static <N> TreeSpliterator<N> inOrder(N root, long size, Access<N> access, int characteristics) {
+        return create(root, size, access, false, characteristics);
+    }
+
+    /** 前序遍历整棵树 */
+    static <N> TreeSpliterator<N> preOrder(N root, long size, Access<N> access, int characteristics) {
+        return create(root, size, access, true, characteristics);
+    }
+
+    private static <N> TreeSpliterator<N> create(N root, long size, Access<N> access,
+                                                 boolean preOrder, int characteristics) {
+        boolean subSized = root == null || access.size(root) >= 0;
+        long est = size >= 0 ? size : (root == null ? 0 : Long.MAX_VALUE);
+        TreeSpliterator<N> s = new TreeSpliterator<>(access, preOrder, characteristics, est, size >= 0, subSized);
+        if (root != null) {
+            s.push(false, 0, root);
+        }
+        return s;
+    }
+
+    // ================== Spliterator 实现 ==================
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(IntConsumer action) {
+        while (sp > 0) {
+            int top = --sp;
+            boolean hv = hasValue[top];
+            int v = values[top];
+            N s = (N) subtrees[top];
+            subtrees[top] = null;
+
+            if (hv) {
+                // 先输出值，剩下的子树作为新单元
+                if (s != null) push(false, 0, s);
+                emit(action, v);
+                return true;
+            }
+            if (preOrder) {
+                N right = access.right(s);
+                N left = access.left(s);
+                if (right != null) push(false, 0, right);
+                if (left != null) push(false, 0, left);
+                emit(action, access.value(s));
+                return true;
+            }
+            // 中序：沿左链展开，每个节点成为"值 + 右子树"单元
+            for (N n = s; n != null; n = access.left(n)) {
+                push(true, access.value(n), access.right(n));
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public OfInt trySplit() {
+        // 只剩一个单元时把它展开成多个单元
+        while (sp == 1) {
+            boolean hv = hasValue[0];
+            int v = values[0];
+            N s = (N) subtrees[0];
+            if (s == null) return null;
+            sp = 0;
+            subtrees[0] = null;
+            if (preOrder) {
+                // [v] 前序(s) = [v]；s.value + 前序(s.left)；前序(s.right)
+                N right = access.right(s);
+                if (right != null) push(false, 0, right);
+                push(true, access.value(s), access.left(s));
+                if (hv) push(true, v, null);
+            } else {
+                // [v] 中序(s) = [v] 中序(s.left)；s.value 中序(s.right)
+                push(true, access.value(s), access.right(s));
+                N left = access.left(s);
+                if (hv) {
+                    push(true, v, left);
+                } else if (left != null) {
+                    push(false, 0, left);
+                }
+            }
+        }
+        if (sp < 2) return null;
+
+        // 栈顶一侧（除栈底外的所有单元）交给前缀
+        int n = sp - 1;
+        TreeSpliterator<N> prefix = new TreeSpliterator<>(access, preOrder, baseCharacteristics,
+                0, false, subSized);
+        prefix.ensureCapacity(n);
+        System.arraycopy(hasValue, 1, prefix.hasValue, 0, n);
+        System.arraycopy(values, 1, prefix.values, 0, n);
+        System.arraycopy(subtrees, 1, prefix.subtrees, 0, n);
+        prefix.sp = n;
+        for (int i = 1; i < sp; i++) {
+            subtrees[i] = null;
+        }
+        sp = 1;
+
+        if (subSized && exact) {
+            prefix.est = prefix.exactSize();
+            prefix.exact = true;
+            est = exactSize();
+        } else {
+            prefix.est = est >>> 1;
+            est -= prefix.est;
+            exact = false;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return est;
+    }
+
+    @Override
+    public int characteristics() {
+        int c = baseCharacteristics;
+        if (exact) c |= SIZED;
+        if (exact && subSized) c |= SUBSIZED;
+        return c;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+        if (hasCharacteristics(SORTED)) return null; // 自然顺序
+        throw new IllegalStateException();
+    }
+
+    // ================== 内部方法 ==================
+
+    private void emit(IntConsumer action, int value) {
+        if (est != Long.MAX_VALUE && est > 0) est--;
+        action.accept(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long exactSize() {
+        long total = 0;
+        for (int i = 0; i < sp; i++) {
+            if (hasValue[i]) total++;
+            if (subtrees[i] != null) total += access.size((N) subtrees[i]);
+        }
+        return total;
+    }
+
+    private void push(boolean hv, int value, Object subtree) {
+        ensureCapacity(sp + 1);
+        hasValue[sp] = hv;
+        values[sp] = value;
+        subtrees[sp] = subtree;
+        sp++;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n > subtrees.length) {
+            int cap = Math.max(n, subtrees.length * 2);
+            hasValue = Arrays.copyOf(hasValue, cap);
+            values = Arrays.copyOf(values, cap);
+            subtrees = Arrays.copyOf(subtrees, cap);
+        }
+    }
+}
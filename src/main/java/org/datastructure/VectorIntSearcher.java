@@ -0,0 +1,36 @@
+package org.datastructure;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 基于 jdk.incubator.vector 的 SIMD 查找
+ * 每次比较 SPECIES.length() 个元素（AVX2 为 8 个，AVX-512 为 16 个）
+ * 运行时需要 --add-modules jdk.incubator.vector，否则由 SearchEngine 回退到标量实现
+ */
+final class VectorIntSearcher implements IntSearcher {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(int[] a, int from, int to, int key) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Integer> hit = IntVector.fromArray(SPECIES, a, i).eq(key);
+            if (hit.anyTrue()) {
+                return i + hit.firstTrue();
+            }
+        }
+        // 处理尾部不足一个向量的部分
+        for (; i < to; i++) {
+            if (a[i] == key) return i;
+        }
+        return -1;
+    }
+
+    /** 向量通道数 */
+    static int lanes() {
+        return SPECIES.length();
+    }
+}
@@ -0,0 +1,277 @@
+package org.datastructure;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 弱 AVL（WAVL）树实现（非递归，节点带父指针）
+ * 每个节点带秩 rank，空孩子的秩视为 -1；父子秩差只能是 1 或 2，叶子的秩为 0
+ * 只有插入时与 AVL 树形状相同；删除允许出现 2,2 节点，因此每次更新最多 2 次旋转，
+ * 秩的升降摊还为 O(1)，高度不超过 2log n
+ */
+public class WAVLTreeDS implements DataStructure {
+
+    // ================== 节点类 ==================
+    static class Node {
+        int value;
+        int rank;
+        Node left;
+        Node right;
+        Node parent;
+
+        Node(int value, Node parent) {
+            this.value = value;
+            this.parent = parent;
+        }
+    }
+
+    private Node root;
+    private int size;
+    private long rotations; // 累计旋转次数
+
+    // ================== DataStructure 接口实现 ==================
+
+    @Override
+    public void insert(int value) {
+        if (root == null) {
+            root = new Node(value, null);
+            size = 1;
+            return;
+        }
+        Node parent = root;
+        while (true) {
+            if (value == parent.value) return; // 不允许重复
+            Node next = value < parent.value ? parent.left : parent.right;
+            if (next == null) break;
+            parent = next;
+        }
+        Node node = new Node(value, parent);
+        if (value < parent.value) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        size++;
+        fixAfterInsertion(node);
+    }
+
+    @Override
+    public void delete(int value) {
+        Node node = findNode(value);
+        if (node == null) return;
+        size--;
+
+        // 有两个孩子时把后继的值搬上来，转为删除后继（至多一个孩子）
+        if (node.left != null && node.right != null) {
+            Node s = node.right;
+            while (s.left != null) {
+                s = s.left;
+            }
+            node.value = s.value;
+            node = s;
+        }
+
+        Node child = node.left != null ? node.left : node.right;
+        Node parent = node.parent;
+        if (child != null) {
+            child.parent = parent;
+        }
+        replaceChild(parent, node, child);
+        if (parent != null) {
+            fixAfterDeletion(child, parent);
+        }
+    }
+
+    @Override
+    public boolean search(int value) {
+        return findNode(value) != null;
+    }
+
+    @Override
+    public IntStream stream() {
+        return StreamSupport.intStream(TreeSpliterator.inOrder(root, size, ACCESS,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /** 供 TreeSpliterator 使用 */
+    private static final TreeSpliterator.Access<Node> ACCESS =
+            TreeSpliterator.Access.of(n -> n.left, n -> n.right, n -> n.value);
+
+    // ================== 平衡修复 ==================
+
+    /** 新叶子 x 的秩为 0；父节点原本也是叶子时出现秩差为 0 的孩子，需要向上修复 */
+    private void fixAfterInsertion(Node x) {
+        Node p = x.parent;
+        while (p != null && p.rank == x.rank) {
+            Node sibling = p.left == x ? p.right : p.left;
+            if (p.rank - rank(sibling) == 1) {
+                // 0,1 节点：提升父节点，问题上移一层
+                p.rank++;
+                x = p;
+                p = p.parent;
+                continue;
+            }
+            // 0,2 节点：一次或两次旋转后结束
+            if (p.left == x) {
+                Node inner = x.right;
+                if (x.rank - rank(inner) == 2) {
+                    rotateRight(p);
+                    p.rank--;
+                } else {
+                    rotateLeft(x);
+                    rotateRight(p);
+                    inner.rank++;
+                    x.rank--;
+                    p.rank--;
+                }
+            } else {
+                Node inner = x.left;
+                if (x.rank - rank(inner) == 2) {
+                    rotateLeft(p);
+                    p.rank--;
+                } else {
+                    rotateRight(x);
+                    rotateLeft(p);
+                    inner.rank++;
+                    x.rank--;
+                    p.rank--;
+                }
+            }
+            return;
+        }
+    }
+
+    /** x 为被删节点的替代者（可能为空），p 为其父节点 */
+    private void fixAfterDeletion(Node x, Node p) {
+        if (p.left == null && p.right == null && p.rank == 1) {
+            // p 成为 2,2 叶子：降为 0，之后它可能成为秩差为 3 的孩子
+            p.rank = 0;
+            x = p;
+            p = p.parent;
+        }
+        while (p != null && p.rank - rank(x) == 3) {
+            boolean xIsLeft = p.left == x;
+            Node y = xIsLeft ? p.right : p.left;
+            if (p.rank - y.rank == 2) {
+                // 3,2 节点：降级父节点，问题上移一层
+                p.rank--;
+                x = p;
+                p = p.parent;
+                continue;
+            }
+            if (y.rank - rank(y.left) == 2 && y.rank - rank(y.right) == 2) {
+                // 3,1 节点且兄弟为 2,2：同时降级
+                p.rank--;
+                y.rank--;
+                x = p;
+                p = p.parent;
+                continue;
+            }
+            // 需要旋转：outer 为兄弟远离 x 一侧的孩子
+            Node outer = xIsLeft ? y.right : y.left;
+            if (y.rank - rank(outer) == 1) {
+                if (xIsLeft) rotateLeft(p); else rotateRight(p);
+                y.rank++;
+                p.rank--;
+                if (p.left == null && p.right == null) {
+                    p.rank--; // 叶子的秩必须为 0
+                }
+            } else {
+                Node inner = xIsLeft ? y.left : y.right;
+                if (xIsLeft) {
+                    rotateRight(y);
+                    rotateLeft(p);
+                } else {
+                    rotateLeft(y);
+                    rotateRight(p);
+                }
+                inner.rank += 2;
+                y.rank--;
+                p.rank -= 2;
+            }
+            return;
+        }
+    }
+
+    private static int rank(Node node) {
+        return node == null ? -1 : node.rank;
+    }
+
+    private void rotateLeft(Node x) {
+        Node y = x.right;
+        x.right = y.left;
+        if (y.left != null) y.left.parent = x;
+        y.parent = x.parent;
+        replaceChild(x.parent, x, y);
+        y.left = x;
+        x.parent = y;
+        rotations++;
+    }
+
+    private void rotateRight(Node y) {
+        Node x = y.left;
+        y.left = x.right;
+        if (x.right != null) x.right.parent = y;
+        x.parent = y.parent;
+        replaceChild(y.parent, y, x);
+        x.right = y;
+        y.parent = x;
+        rotations++;
+    }
+
+    /** 把 parent 指向 oldChild 的链接改为 newChild（parent 为 null 时替换根） */
+    private void replaceChild(Node parent, Node oldChild, Node newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private Node findNode(int value) {
+        Node current = root;
+        while (current != null) {
+            if (value == current.value) return current;
+            current = value < current.value ? current.left : current.right;
+        }
+        return null;
+    }
+
+    // ================== 其他方法 ==================
+
+    public int size() {
+        return size;
+    }
+
+    /** 自创建以来的累计旋转次数 */
+    public long rotations() {
+        return rotations;
+    }
+
+    /** 树高（层序遍历，空树为 0） */
+    public int height() {
+        if (root == null) return 0;
+        Deque<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+        int height = 0;
+        while (!queue.isEmpty()) {
+            height++;
+            for (int i = queue.size(); i > 0; i--) {
+                Node node = queue.poll();
+                if (node.left != null) queue.add(node.left);
+                if (node.right != null) queue.add(node.right);
+            }
+        }
+        return height;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+}